@@ -1,47 +1,71 @@
 package com.w1sh.stardust;
 
 import com.w1sh.stardust.InvocationInterceptor.InvocationType;
-import com.w1sh.stardust.annotation.Module;
-import com.w1sh.stardust.annotation.Primary;
-import com.w1sh.stardust.annotation.Provide;
 import com.w1sh.stardust.configuration.PropertiesRegistry;
 import com.w1sh.stardust.configuration.PropertiesRegistryImpl;
+import com.w1sh.stardust.event.PhaseEventMulticaster;
+import com.w1sh.stardust.exception.ComponentCreationException;
 import com.w1sh.stardust.exception.ProviderCandidatesException;
 import com.w1sh.stardust.exception.ProviderRegistrationException;
 import com.w1sh.stardust.health.HealthProbe;
 import com.w1sh.stardust.health.Probe;
 import com.w1sh.stardust.naming.DefaultNamingStrategy;
 import com.w1sh.stardust.naming.NamingStrategy;
-import com.w1sh.stardust.util.Constructors;
-import com.w1sh.stardust.util.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 public abstract class AbstractProviderContainer implements ProviderContainer, InterceptorAware, AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractProviderContainer.class);
 
     private final SetValueEnumMap<InvocationType, InvocationInterceptor> interceptors;
+    private final ReentrantLock interceptorsLock = new ReentrantLock();
+    private volatile Map<InvocationType, InterceptorPipeline> pipelines;
     private final ProviderStore providerStore;
     private final NamingStrategy namingStrategy;
     private final ParameterResolver resolver;
     private final PropertiesRegistry registry;
+    private final Readiness readiness = new Readiness();
+    private volatile StagedProviders staged;
+    private volatile boolean lazyInitialization;
+    private volatile Supplier<? extends InstanceTracker<?>> prototypeTracking = InstanceTracker::weak;
+    private final List<List<DependencyGraph.Node>> registrations = new CopyOnWriteArrayList<>();
+    private volatile Duration shutdownTimeout = Duration.ofSeconds(30);
+    private volatile Duration componentShutdownTimeout = Duration.ofSeconds(10);
 
     protected AbstractProviderContainer(NamingStrategy namingStrategy) {
+        this(namingStrategy, new ProviderStoreImpl());
+    }
+
+    protected AbstractProviderContainer(NamingStrategy namingStrategy, ProviderStore providerStore) {
         this.namingStrategy = Objects.requireNonNullElseGet(namingStrategy, DefaultNamingStrategy::new);
         this.registry = new PropertiesRegistryImpl();
-        this.providerStore = new ProviderStoreImpl();
+        this.providerStore = Objects.requireNonNullElseGet(providerStore, ProviderStoreImpl::new);
         this.resolver = new ParameterResolver(this, registry);
         this.interceptors = new SetValueEnumMap<>(InvocationType.class);
+        this.pipelines = new EnumMap<>(InvocationType.class);
+        for (InvocationType type : InvocationType.values()) {
+            this.pipelines.put(type, InterceptorPipeline.EMPTY);
+        }
 
-        providerStore.register(namingStrategy.generate(this.getClass()), AbstractProviderContainer.class, new SingletonObjectProvider<>(this));
-        providerStore.register(namingStrategy.generate(namingStrategy.getClass()), NamingStrategy.class, new SingletonObjectProvider<>(namingStrategy));
-        providerStore.register(namingStrategy.generate(providerStore.getClass()), ProviderStore.class, new SingletonObjectProvider<>(providerStore));
-        providerStore.register(namingStrategy.generate(resolver.getClass()), ParameterResolver.class, new SingletonObjectProvider<>(resolver));
-        logger.trace("Container initialization complete. {} internal classes have been registered.", providerStore.count());
+        this.providerStore.register(this.namingStrategy.generate(this.getClass()), AbstractProviderContainer.class, new SingletonObjectProvider<>(this));
+        this.providerStore.register(this.namingStrategy.generate(this.namingStrategy.getClass()), NamingStrategy.class, new SingletonObjectProvider<>(this.namingStrategy));
+        this.providerStore.register(this.namingStrategy.generate(this.providerStore.getClass()), ProviderStore.class, new SingletonObjectProvider<>(this.providerStore));
+        this.providerStore.register(this.namingStrategy.generate(resolver.getClass()), ParameterResolver.class, new SingletonObjectProvider<>(resolver));
+        this.providerStore.register(this.namingStrategy.generate(readiness.getClass()), Readiness.class, new SingletonObjectProvider<>(readiness));
+        logger.trace("Container initialization complete. {} internal classes have been registered.", this.providerStore.count());
     }
 
     public static AbstractProviderContainer base() {
@@ -50,31 +74,223 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
 
     public void register(Class<?> clazz) {
         Objects.requireNonNull(clazz);
+        registerAll(List.of(clazz));
+    }
 
-        if (HealthProbe.class.isAssignableFrom(clazz)) {
-            if (!clazz.isAnnotationPresent(Probe.class)) {
-                throw ProviderRegistrationException.malformedProbe(clazz);
+    /**
+     * Sets whether singletons registered from now on are created the first time they are looked up or injected, instead
+     * of when they are registered. Singletons that are never needed are then never created.
+     *
+     * @param lazyInitialization {@code true} to create singletons on first use, {@code false} to create them right away
+     */
+    public void setLazyInitialization(boolean lazyInitialization) {
+        this.lazyInitialization = lazyInitialization;
+    }
+
+    /**
+     * Sets whether lazy singletons are injected as proxies into parameters typed with a public interface, so that they
+     * are only created once one of their methods is called. See {@link ParameterResolver#setLazyProxies(boolean)}.
+     *
+     * @param lazyProxies {@code true} to inject proxies of lazy singletons, {@code false} to create them on injection
+     */
+    public void setLazyProxies(boolean lazyProxies) {
+        resolver.setLazyProxies(lazyProxies);
+    }
+
+    /**
+     * Sets how the instances of prototypes registered from now on are tracked, see {@link InstanceTracker}. Prototypes
+     * of classes that no {@link InvocationType#PRE_DESTROY pre-destroy} interceptor applies to when registered are not
+     * tracked at all, whatever the tracking set here.
+     *
+     * @param prototypeTracking the supplier of the tracker of each prototype, such as {@link InstanceTracker#weak()}
+     */
+    public void setPrototypeTracking(Supplier<? extends InstanceTracker<?>> prototypeTracking) {
+        this.prototypeTracking = Objects.requireNonNull(prototypeTracking);
+    }
+
+    /**
+     * Sets how long {@link #shutdown()} may take overall, and how long the pre-destroy interceptors of a single
+     * component may run before the shutdown moves on without them.
+     *
+     * @param timeout          the time the whole shutdown may take
+     * @param componentTimeout the time the destruction of a single component may take
+     */
+    public void setShutdownTimeouts(Duration timeout, Duration componentTimeout) {
+        this.shutdownTimeout = Objects.requireNonNull(timeout);
+        this.componentShutdownTimeout = Objects.requireNonNull(componentTimeout);
+    }
+
+    @Override
+    public void registerAll(Collection<Class<?>> classes) {
+        Objects.requireNonNull(classes);
+        validate(classes);
+        register(DependencyGraph.of(classes, namingStrategy));
+    }
+
+    @Override
+    public void registerAll(DependencyGraph graph) {
+        Objects.requireNonNull(graph);
+        validate(classes(graph));
+        register(graph);
+    }
+
+    private void register(DependencyGraph graph) {
+        final List<DependencyGraph.Node> order = graph.order(this::awaitsAsync);
+        registrations.add(order);
+        for (DependencyGraph.Node node : order) {
+            StagedProviders.register(providerStore, node, createProvider(node));
+        }
+        awaitAsync(order);
+    }
+
+    /**
+     * Registers all the given classes like {@link #registerAll(Collection)}, creating the providers on the given executor
+     * instead. A provider is created as soon as every provider it depends on exists, so providers that do not depend on
+     * each other are created concurrently, while registration in the {@link ProviderStore} still follows the order of
+     * the {@link DependencyGraph}, making it the same as a sequential registration. Providers depending on an
+     * {@link ResolvableExecutable#isAsync() asynchronous} provider are only created once its future completes, instead
+     * of blocking a thread of the executor while waiting for it.
+     * <br>
+     * When a provider fails to be created, the providers depending on it are skipped and every other provider is still
+     * created and registered. Once all are done, a {@link ComponentCreationException} naming every provider that failed
+     * is thrown.
+     *
+     * @param classes  the classes to register
+     * @param executor the executor to create the providers on
+     */
+    @Override
+    public void registerAll(Collection<Class<?>> classes, Executor executor) {
+        Objects.requireNonNull(classes);
+        Objects.requireNonNull(executor);
+        validate(classes);
+        register(DependencyGraph.of(classes, namingStrategy), executor);
+    }
+
+    /**
+     * Registers the given graph like {@link #registerAll(Collection, Executor)}.
+     *
+     * @param graph    the graph of the classes to register
+     * @param executor the executor to create the providers on
+     */
+    @Override
+    public void registerAll(DependencyGraph graph, Executor executor) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(executor);
+        validate(classes(graph));
+        register(graph, executor);
+    }
+
+    private void register(DependencyGraph graph, Executor executor) {
+        final List<DependencyGraph.Node> order = graph.order();
+        registrations.add(order);
+        final StagedProviders staging = new StagedProviders(order, providerStore);
+        final Map<DependencyGraph.Node, CompletableFuture<Void>> creations = new HashMap<>(order.size());
+        final Map<DependencyGraph.Node, Throwable> failures = new ConcurrentHashMap<>();
+        final int registered;
+        staged = staging;
+        try {
+            for (int position = 0; position < order.size(); position++) {
+                final DependencyGraph.Node node = order.get(position);
+                final int stagedPosition = position;
+                final CompletableFuture<?>[] dependencies = node.dependencies().stream()
+                        .map(creations::get)
+                        .toArray(CompletableFuture[]::new);
+                creations.put(node, CompletableFuture.allOf(dependencies).thenApplyAsync(ignored -> {
+                    try {
+                        final ResolvableExecutable<?> executable = bind(node);
+                        if (!startsAsync(node)) {
+                            staging.complete(stagedPosition, asProvider(executable));
+                            return CompletableFuture.<Void>completedFuture(null);
+                        }
+                        final Object future = invoke(executable, compile(executable));
+                        staging.complete(stagedPosition, asyncProvider(executable, future));
+                        return future instanceof CompletableFuture<?> completable
+                                ? completable.<Void>handle((result, throwable) -> null)
+                                : CompletableFuture.<Void>completedFuture(null);
+                    } catch (RuntimeException e) {
+                        failures.put(node, e);
+                        throw e;
+                    }
+                }, executor).thenCompose(completion -> completion));
             }
+            CompletableFuture.allOf(creations.values().toArray(CompletableFuture[]::new))
+                    .handle((result, throwable) -> result)
+                    .join();
+        } finally {
+            registered = staging.commitRemaining();
+            staged = null;
+        }
+
+        if (!failures.isEmpty()) {
+            throw creationFailure(order, failures, registered);
         }
+        awaitAsync(order);
+        logger.debug("Registered {} providers in parallel", order.size());
+    }
+
+    private ComponentCreationException creationFailure(List<DependencyGraph.Node> order,
+                                                       Map<DependencyGraph.Node, Throwable> failures, int registered) {
+        final List<DependencyGraph.Node> failed = order.stream()
+                .filter(failures::containsKey)
+                .toList();
+        failed.forEach(node -> logger.error("Failed to create provider {}", node.name(), failures.get(node)));
 
-        final var constructor = new ResolvableConstructorImpl<>(Constructors.getInjectConstructor(clazz));
-        register(constructor);
+        final ComponentCreationException exception = new ComponentCreationException(String.format(
+                "Failed to create providers %s, %d of %d providers were registered", failed, registered, order.size()),
+                failures.get(failed.get(0)));
+        failed.stream().skip(1).forEach(node -> exception.addSuppressed(failures.get(node)));
+        return exception;
+    }
 
-        if (clazz.isAnnotationPresent(Module.class)) {
-            Object moduleInstance = instance(clazz);
-            Arrays.stream(clazz.getDeclaredMethods())
-                    .filter(method -> method.isAnnotationPresent(Provide.class))
-                    .map(method -> new ResolvableMethodImpl<>(method, moduleInstance))
-                    .sorted((Comparator.comparingInt(o -> o.getParameters().size())))
-                    .forEach(this::register);
+    private static List<Class<?>> classes(DependencyGraph graph) {
+        return graph.nodes().stream()
+                .filter(node -> node.module() == null)
+                .<Class<?>>map(node -> node.executable().getActualType())
+                .toList();
+    }
+
+    private void validate(Collection<Class<?>> classes) {
+        for (Class<?> clazz : classes) {
+            if (providerStore.isFrozen()) {
+                throw ProviderRegistrationException.frozen(namingStrategy.generate(clazz));
+            }
+
+            if (HealthProbe.class.isAssignableFrom(clazz)) {
+                if (!clazz.isAnnotationPresent(Probe.class)) {
+                    throw ProviderRegistrationException.malformedProbe(clazz);
+                }
+            }
+        }
+    }
+
+    private ObjectProvider<?> createProvider(DependencyGraph.Node node) {
+        return asProvider(bind(node));
+    }
+
+    private ResolvableExecutable<?> bind(DependencyGraph.Node node) {
+        ResolvableExecutable<?> executable = node.executable();
+        if (node.module() != null) {
+            executable = ((ResolvableMethodImpl<?>) executable).bind(instance(node.module().name()));
         }
+        logger.debug("Registering provider of class {} with name {}", executable.getActualType().getSimpleName(), node.name());
+        return executable;
     }
 
-    private void register(ResolvableExecutable<?> executable) {
-        Objects.requireNonNull(executable);
-        String name = Objects.requireNonNullElse(executable.getName(), namingStrategy.generate(executable.getActualType()));
-        logger.debug("Registering provider of class {} with name {}", executable.getActualType().getSimpleName(), name);
-        providerStore.register(name, executable.getActualType(), asProvider(executable));
+    /**
+     * Returns whether the provider of the node is an {@link ResolvableExecutable#isAsync() asynchronous} singleton whose
+     * future is started on registration.
+     */
+    private boolean startsAsync(DependencyGraph.Node node) {
+        return !lazyInitialization && node.executable().isAsync()
+                && Scope.SINGLETON.equals(node.executable().getMetadata().scope());
+    }
+
+    /**
+     * Returns whether creating the provider of the node blocks until the future of one of its dependencies completes.
+     * Such nodes are registered once no other node can be, so that every asynchronous provider is started first.
+     */
+    private boolean awaitsAsync(DependencyGraph.Node node) {
+        return node.dependencies().stream().anyMatch(this::startsAsync);
     }
 
     @Override
@@ -89,7 +305,7 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
     @SuppressWarnings("unchecked")
     public <T> T instance(String name) {
         Objects.requireNonNull(name);
-        ObjectProvider<?> provider = providerStore.get(name);
+        ObjectProvider<?> provider = lookup(name);
         return provider != null ? (T) provider.singletonInstance() : null;
     }
 
@@ -100,15 +316,9 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> ObjectProvider<T> primaryProvider(Class<T> clazz) {
         Objects.requireNonNull(clazz);
-        List<? extends ObjectProvider<?>> primaries = providerStore.getAllClasses().stream()
-                .filter(clazz::isAssignableFrom)
-                .filter(key -> key.isAnnotationPresent(Primary.class))
-                .map(providerStore::get)
-                .flatMap(Collection::stream)
-                .toList();
+        List<ObjectProvider<T>> primaries = lookupPrimaries(clazz);
 
         if (primaries.isEmpty()) {
             logger.error("Expected 1 primary candidate but found none for class {}", clazz.getSimpleName());
@@ -117,13 +327,13 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
             logger.error("Expected 1 primary candidate but found {} for class {}", primaries.size(), clazz.getSimpleName());
             throw new ProviderCandidatesException(primaries.size(), clazz);
         }
-        return (ObjectProvider<T>) primaries.get(0);
+        return primaries.get(0);
     }
 
     @Override
     public <T> List<T> instances(Class<T> clazz) {
         Objects.requireNonNull(clazz);
-        return providerStore.get(clazz).stream()
+        return lookupAll(clazz).stream()
                 .map(ObjectProvider::singletonInstance)
                 .toList();
     }
@@ -137,18 +347,30 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
     @Override
     public <T> ObjectProvider<T> provider(String name) {
         Objects.requireNonNull(name);
-        return providerStore.get(name);
+        return lookup(name);
     }
 
     @Override
     public <T> List<ObjectProvider<T>> providers(Class<T> clazz) {
         Objects.requireNonNull(clazz);
-        return providerStore.get(clazz);
+        return lookupAll(clazz);
+    }
+
+    @Override
+    public <T> ProviderHandle<T> handle(Class<T> clazz) {
+        Objects.requireNonNull(clazz);
+        return new ProviderHandle<>(clazz.getSimpleName(), () -> get(clazz), providerStore::generation);
+    }
+
+    @Override
+    public <T> ProviderHandle<T> handle(String name) {
+        Objects.requireNonNull(name);
+        return new ProviderHandle<>(name, () -> lookup(name), providerStore::generation);
     }
 
     @Override
     public <T> boolean contains(Class<T> clazz) {
-        return clazz != null && !providerStore.get(clazz).isEmpty();
+        return clazz != null && !lookupAll(clazz).isEmpty();
     }
 
     @Override
@@ -156,15 +378,29 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
         return name != null && provider(name) != null;
     }
 
+    /**
+     * Freezes the container and {@link Readiness#open() opens} its readiness, the container being ready once the
+     * initializers started so far have finished.
+     */
+    @Override
+    public void freeze() {
+        providerStore.freeze();
+        readiness.open();
+        logger.debug("Container frozen with {} providers, no further registrations are allowed", providerStore.count());
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return providerStore.isFrozen();
+    }
+
     public List<Class<?>> getAllAnnotatedWith(Class<? extends Annotation> annotationType) {
         Objects.requireNonNull(annotationType);
-        return providerStore.getAllClasses().stream()
-                .filter(clazz -> clazz.isAnnotationPresent(annotationType))
-                .toList();
+        return providerStore.getAllAnnotatedWith(annotationType);
     }
 
     private <T> ObjectProvider<T> get(Class<T> clazz) {
-        final var candidates = providerStore.get(clazz);
+        final var candidates = lookupAll(clazz);
 
         if (candidates.size() > 1) {
             logger.error("Expected 1 candidate but found {} for class {}", candidates.size(), clazz.getSimpleName());
@@ -173,73 +409,286 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
         return candidates.isEmpty() ? null : candidates.get(0);
     }
 
+    /**
+     * Providers created by a parallel registration are looked up among the staged providers before the store, as they
+     * may not have been registered in it yet, see {@link StagedProviders}.
+     */
+    private <T> ObjectProvider<T> lookup(String name) {
+        final StagedProviders staging = staged;
+        if (staging != null) {
+            final ObjectProvider<T> provider = staging.get(name);
+            if (provider != null) return provider;
+        }
+        return providerStore.get(name);
+    }
+
+    private <T> List<ObjectProvider<T>> lookupAll(Class<T> clazz) {
+        final StagedProviders staging = staged;
+        if (staging == null) {
+            return providerStore.get(clazz);
+        }
+        final List<ObjectProvider<T>> pending = staging.get(clazz);
+        return StagedProviders.merge(providerStore.get(clazz), pending);
+    }
+
+    private <T> List<ObjectProvider<T>> lookupPrimaries(Class<T> clazz) {
+        final StagedProviders staging = staged;
+        if (staging == null) {
+            return providerStore.getPrimary(clazz);
+        }
+        final List<ObjectProvider<T>> pending = staging.getPrimary(clazz);
+        return StagedProviders.merge(providerStore.getPrimary(clazz), pending);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T asProvider(ResolvableExecutable<?> executable) {
-        if (Scope.SINGLETON.equals(executable.getScope())) {
-            Object instance = createInstance(executable);
+        if (Scope.SINGLETON.equals(executable.getMetadata().scope())) {
+            if (lazyInitialization) {
+                return (T) new LazySingletonObjectProvider<>(new DeferredInstantiation(executable));
+            }
+            if (executable.isAsync()) {
+                return (T) asyncProvider(executable, invoke(executable, compile(executable)));
+            }
+            Object instance = createInstance(executable, compile(executable));
             return (T) new SingletonObjectProvider<>(instance);
+        } else if (Scope.POOLED.equals(executable.getMetadata().scope())) {
+            final int poolSize = executable.getMetadata().poolSize();
+            return (T) new PooledObjectProvider<>(new DeferredInstantiation(executable),
+                    poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(),
+                    instance -> pipelines.get(InvocationType.PRE_DESTROY).intercept(instance));
         } else {
-            return (T) new PrototypeObjectProvider<>(() -> createInstance(executable));
+            return (T) new PrototypeObjectProvider<>(new DeferredInstantiation(executable), trackerFor(executable));
+        }
+    }
+
+    private ObjectProvider<?> asyncProvider(ResolvableExecutable<?> executable, Object future) {
+        return new LazySingletonObjectProvider<>(() -> complete(executable, future));
+    }
+
+    /**
+     * Returns the tracker of the instances of a prototype. Instances only need to be found again to run the pre-destroy
+     * interceptors on them, so they are not tracked when none of those applies to the class. The class returned by a
+     * {@link com.w1sh.stardust.annotation.Provide} method is only known once it runs, so those are always tracked.
+     */
+    @SuppressWarnings("unchecked")
+    private InstanceTracker<Object> trackerFor(ResolvableExecutable<?> executable) {
+        if (executable instanceof ResolvableConstructorImpl<?>
+                && !pipelines.get(InvocationType.PRE_DESTROY).appliesTo(executable.getActualType())) {
+            return InstanceTracker.none();
+        }
+        return (InstanceTracker<Object>) prototypeTracking.get();
+    }
+
+    private ResolutionPlan[] compile(ResolvableExecutable<?> executable) {
+        return executable.getParameters().stream()
+                .map(resolver::compile)
+                .toArray(ResolutionPlan[]::new);
+    }
+
+    private <T> T createInstance(ResolvableExecutable<?> executable, ResolutionPlan[] plans) {
+        return complete(executable, invoke(executable, plans));
+    }
+
+    private Object invoke(ResolvableExecutable<?> executable, ResolutionPlan[] plans) {
+        final Object[] objects = new Object[plans.length];
+        for (int i = 0; i < plans.length; i++) {
+            objects[i] = plans[i].resolve();
         }
+        return executable.resolve(objects);
     }
 
+    /**
+     * Turns what the executable returned into the instance to provide, waiting for the future returned by
+     * {@link ResolvableExecutable#isAsync() asynchronous} executables, then runs the post-construct interceptors on it.
+     */
     @SuppressWarnings("unchecked")
-    private <T> T createInstance(ResolvableExecutable<?> executable) {
-        Object[] objects = executable.getParameters().stream()
-                .map(resolver::resolve)
-                .toArray();
-        T resolved = (T) executable.resolve(objects);
-        interceptors.get(InvocationType.POST_CONSTRUCT).stream()
-                .sorted(Comparator.comparing(o -> Types.getPriority(o.getClass())))
-                .forEach(invocationInterceptor -> invocationInterceptor.intercept(resolved));
+    private <T> T complete(ResolvableExecutable<?> executable, Object result) {
+        T resolved = (T) (executable.isAsync() ? await(executable, result) : result);
+        readiness.intercept(Scope.SINGLETON.equals(executable.getMetadata().scope()),
+                () -> pipelines.get(InvocationType.POST_CONSTRUCT).intercept(resolved));
         return resolved;
     }
 
+    private static Object await(ResolvableExecutable<?> executable, Object result) {
+        final String type = executable.getActualType().getSimpleName();
+        if (!(result instanceof Future<?> future)) {
+            throw new ComponentCreationException(String.format("Asynchronous provider of %s returned no future", type));
+        }
+        try {
+            return Objects.requireNonNull(future.get(), () -> String.format("Asynchronous provider of %s completed with null", type));
+        } catch (ExecutionException e) {
+            throw new ComponentCreationException(String.format("Asynchronous provider of %s failed", type), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ComponentCreationException(String.format("Interrupted while waiting for asynchronous provider of %s", type), e);
+        }
+    }
+
+    /**
+     * Waits for the asynchronous singletons of a registration, which were all started while registering, so that the
+     * registration fails on those that do not complete like it would on any other singleton.
+     */
+    private void awaitAsync(List<DependencyGraph.Node> order) {
+        if (lazyInitialization) return;
+        final Map<DependencyGraph.Node, Throwable> failures = new LinkedHashMap<>();
+        for (DependencyGraph.Node node : order) {
+            if (!startsAsync(node)) continue;
+            final ObjectProvider<?> provider = providerStore.get(node.name());
+            if (provider == null) continue;
+            try {
+                provider.singletonInstance();
+            } catch (RuntimeException e) {
+                failures.put(node, e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            final List<String> failed = failures.keySet().stream().map(DependencyGraph.Node::name).toList();
+            final ComponentCreationException exception = new ComponentCreationException(String.format(
+                    "Failed to complete asynchronous providers %s", failed), failures.values().iterator().next());
+            failures.values().stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Creates the instances of a prototype, pooled or lazy singleton provider. The parameters of the executable are
+     * compiled into {@link ResolutionPlan plans} on the first creation, once every dependency had the chance to be
+     * registered, and reused for every creation after that.
+     */
+    private final class DeferredInstantiation implements Supplier<Object> {
+
+        private final ResolvableExecutable<?> executable;
+        private volatile ResolutionPlan[] plans;
+
+        private DeferredInstantiation(ResolvableExecutable<?> executable) {
+            this.executable = executable;
+        }
+
+        @Override
+        public Object get() {
+            ResolutionPlan[] compiled = plans;
+            if (compiled == null) {
+                compiled = compile(executable);
+                plans = compiled;
+            }
+            return createInstance(executable, compiled);
+        }
+    }
+
     @Override
     public void addInterceptor(InvocationInterceptor interceptor) {
-        interceptors.put(interceptor.getInterceptorType(), interceptor);
+        interceptorsLock.lock();
+        try {
+            interceptors.put(interceptor.getInterceptorType(), interceptor);
+            rebuildPipeline(interceptor.getInterceptorType());
+        } finally {
+            interceptorsLock.unlock();
+        }
     }
 
     @Override
     public void removeInterceptor(InvocationInterceptor interceptor) {
-        interceptors.remove(interceptor.getInterceptorType(), interceptor);
+        interceptorsLock.lock();
+        try {
+            interceptors.remove(interceptor.getInterceptorType(), interceptor);
+            rebuildPipeline(interceptor.getInterceptorType());
+        } finally {
+            interceptorsLock.unlock();
+        }
     }
 
     @Override
     public void removeAllInterceptors() {
-        interceptors.getUnderlyingEnumMap().clear();
+        interceptorsLock.lock();
+        try {
+            interceptors.getUnderlyingEnumMap().clear();
+            for (InvocationType type : InvocationType.values()) {
+                rebuildPipeline(type);
+            }
+        } finally {
+            interceptorsLock.unlock();
+        }
     }
 
     @Override
     public List<InvocationInterceptor> getAllInterceptors() {
-        return interceptors.getUnderlyingEnumMap().values()
+        return pipelines.values()
                 .stream()
-                .flatMap(Collection::stream)
+                .flatMap(pipeline -> pipeline.interceptors().stream())
                 .toList();
     }
 
     @Override
     public List<InvocationInterceptor> getAllInterceptorsOfType(InvocationType type) {
-        return List.copyOf(interceptors.get(type));
+        return pipelines.get(type).interceptors();
     }
 
-    @Override
-    public void close() throws Exception {
-        logger.debug("Closing provider container");
-        List<InvocationInterceptor> preDestroyInterceptors = interceptors.get(InvocationType.PRE_DESTROY).stream()
-                .sorted(Comparator.comparing(o -> Types.getPriority(o.getClass())))
-                .toList();
-        logger.debug("Invoking pre-destroy interceptors on all required providers");
-        List<ObjectProvider<?>> providers = providerStore.getAll();
-        Collections.reverse(providers);
-        for (ObjectProvider<?> objectProvider : providers) {
-            for (Object instance : objectProvider.instances()) {
-                for (InvocationInterceptor invocationInterceptor : preDestroyInterceptors) {
-                    invocationInterceptor.intercept(instance);
+    /**
+     * Replaces the pipeline of the given type with one built from the interceptors currently registered. Pipelines are
+     * immutable and published as a whole, so instances being created meanwhile run through either the old or the new one.
+     */
+    private void rebuildPipeline(InvocationType type) {
+        final Map<InvocationType, InterceptorPipeline> rebuilt = new EnumMap<>(pipelines);
+        rebuilt.put(type, InterceptorPipeline.of(interceptors.get(type)));
+        pipelines = rebuilt;
+    }
+
+    /**
+     * Starts warming up, in the background, every singleton created so far that has warm-up hooks, see
+     * {@link Warmable} and {@link com.w1sh.stardust.annotation.Warmup}. The {@link Readiness} of the container waits for
+     * the warm-up to end, as long as it starts before the container is frozen. Lazy singletons not created yet and
+     * prototypes are not warmed up.
+     *
+     * @param policy      how long the hooks of every component run for
+     * @param multicaster the multicaster the warm-up phase and the warm-up of every component are reported to
+     * @return a future completing once every component is warmed up.
+     */
+    public CompletableFuture<Void> warmUp(WarmupPolicy policy, PhaseEventMulticaster multicaster) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(multicaster);
+        final Map<String, Object> components = new LinkedHashMap<>();
+        for (List<DependencyGraph.Node> order : registrations) {
+            for (DependencyGraph.Node node : order) {
+                final Object instance = switch (providerStore.get(node.name())) {
+                    case SingletonObjectProvider<?> provider -> provider.singletonInstance();
+                    case LazySingletonObjectProvider<?> provider when provider.isInitialized() -> provider.singletonInstance();
+                    case null, default -> null;
+                };
+                if (instance != null && WarmupPhase.appliesTo(instance.getClass())) {
+                    components.put(node.name(), instance);
                 }
             }
         }
-        providerStore.clear();
+        final WarmupPhase warmup = new WarmupPhase(policy, multicaster, readiness);
+        return readiness.run(() -> warmup.run(components));
+    }
+
+    /**
+     * Runs the {@link InvocationType#PRE_DESTROY pre-destroy} interceptors on every instance created by the container,
+     * destroying each component only after the components depending on it, and components that do not depend on each
+     * other concurrently. The shutdown moves on from a component failing or running past the timeout of a single
+     * component, and stops waiting once its overall timeout is over, see {@link #setShutdownTimeouts(Duration, Duration)}.
+     * Every provider is removed from the container afterwards, and initializers still running are stopped.
+     *
+     * @return the outcome and duration of the destruction of every component.
+     */
+    public ShutdownReport shutdown() {
+        logger.debug("Invoking pre-destroy interceptors on all required providers");
+        final ContainerShutdown shutdown = new ContainerShutdown(pipelines.get(InvocationType.PRE_DESTROY),
+                shutdownTimeout, componentShutdownTimeout);
+        try {
+            return shutdown.run(List.copyOf(registrations), providerStore::get, providerStore.getAll(), namingStrategy);
+        } finally {
+            providerStore.clear();
+            registrations.clear();
+            readiness.close();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        logger.debug("Closing provider container");
+        shutdown();
     }
 
     public static class DefaultProviderContainer extends AbstractProviderContainer {
@@ -247,5 +696,9 @@ public abstract class AbstractProviderContainer implements ProviderContainer, In
         public DefaultProviderContainer(NamingStrategy namingStrategy) {
             super(namingStrategy);
         }
+
+        public DefaultProviderContainer(NamingStrategy namingStrategy, ProviderStore providerStore) {
+            super(namingStrategy, providerStore);
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Inject;
+
+import javax.annotation.Priority;
+
+/**
+ * Runs {@link javax.annotation.PostConstruct} methods like the {@link JakartaPostConstructInterceptor}, but on a virtual
+ * thread of the {@link Readiness} of the container instead of the thread creating the instance. It comes last among the
+ * post-construct interceptors, so the methods only start once the instance is otherwise complete.
+ * <br>
+ * Dependents receive the instance before its post-construct methods have finished, and may wait for them through
+ * {@link Readiness#awaitInitialized(Object)}. Only singletons created before the container is frozen are initialized
+ * this way, the methods of any other instance run inline, see {@link Readiness#defersInitialization()}.
+ */
+@Priority(1000)
+public class AsyncPostConstructInterceptor extends JakartaPostConstructInterceptor {
+
+    private final Readiness readiness;
+
+    @Inject
+    public AsyncPostConstructInterceptor(Readiness readiness) {
+        this.readiness = readiness;
+    }
+
+    @Override
+    public void intercept(Object instance) {
+        if (readiness.defersInitialization()) {
+            readiness.initialize(instance, () -> super.intercept(instance));
+        } else {
+            super.intercept(instance);
+        }
+    }
+}
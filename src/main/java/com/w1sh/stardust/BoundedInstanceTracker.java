@@ -0,0 +1,43 @@
+package com.w1sh.stardust;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@link InstanceTracker} keeping the most recently created instances in a ring of fixed size, every new instance
+ * replacing the oldest one once the ring is full. Tracking only claims the next slot of the ring, without locking.
+ */
+final class BoundedInstanceTracker<T> implements InstanceTracker<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong tracked = new AtomicLong();
+
+    BoundedInstanceTracker(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Instance tracking limit must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(limit);
+    }
+
+    @Override
+    public void track(T instance) {
+        slots.set((int) (tracked.getAndIncrement() % slots.length()), instance);
+    }
+
+    @Override
+    public List<T> instances() {
+        final long end = tracked.get();
+        final long start = Math.max(0, end - slots.length());
+        final List<T> instances = new ArrayList<>((int) (end - start));
+        for (long position = start; position < end; position++) {
+            final T instance = slots.get((int) (position % slots.length()));
+            if (instance != null) {
+                instances.add(instance);
+            }
+        }
+        return Collections.unmodifiableList(instances);
+    }
+}
@@ -0,0 +1,322 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Primary;
+import com.w1sh.stardust.exception.ProviderCandidatesException;
+import com.w1sh.stardust.exception.ProviderRegistrationException;
+import com.w1sh.stardust.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link ProviderStore} that allows providers to be registered and looked up from many threads at once.
+ * <br>
+ * Names are kept in a {@link ConcurrentHashMap} and every index bucket is a {@link ConcurrentSkipListMap} that entries
+ * are added to one at a time, so registrations never wait on each other, even when they share a type or an annotation.
+ * Each registration takes a sequence number, which is kept when a provider is overridden, and every list returned by this
+ * store is ordered by it, so {@link #getAll()} follows registration order just like {@link ProviderStoreImpl}.
+ */
+public class ConcurrentProviderStoreImpl implements ProviderStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentProviderStoreImpl.class);
+
+    private final ConcurrentMap<String, Entry> providers = new ConcurrentHashMap<>(256);
+    private final ConcurrentSkipListMap<Long, Entry> ordered = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Class<?>, Bucket<ObjectProvider<?>>> types = new ConcurrentHashMap<>(256);
+    private final ConcurrentMap<Class<?>, Bucket<ObjectProvider<?>>> primaries = new ConcurrentHashMap<>(16);
+    private final ConcurrentMap<Class<? extends Annotation>, Bucket<Class<?>>> annotations = new ConcurrentHashMap<>(32);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Registrations share the read lock between them, only {@link #freeze()} and {@link #clear()} take the write lock,
+     * so they never observe a registration halfway through updating the indexes.
+     */
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile Snapshot snapshot;
+    private volatile boolean allowOverride = true;
+    private volatile boolean ignoreOverride = false;
+
+    @Override
+    public <T> void register(String name, Class<T> clazz, ObjectProvider<T> provider) {
+        requireNonNull(name, "Cannot register provider with null name");
+        requireNonNull(clazz, "Cannot register provider with null class");
+        requireNonNull(provider, "Cannot register provider with null provider");
+
+        lifecycleLock.readLock().lock();
+        try {
+            if (snapshot != null) {
+                throw ProviderRegistrationException.frozen(name);
+            }
+            final Entry registered = providers.compute(name, (key, previous) -> {
+                if (previous != null) {
+                    if (!allowOverride) {
+                        throw ProviderRegistrationException.notAllowedName(name);
+                    }
+                    if (!ignoreOverride) {
+                        logger.warn("Provider with name {} already present, value will be overridden", name);
+                        logger.warn("If you would like the framework to fail on these kind of scenarios, set the property \"stardust.providers.allow-override\" to false");
+                        logger.warn("If you would like to ignore warnings on these kind of scenarios, set the property \"stardust.providers.ignore-override\" to true");
+                    }
+                    unindex(previous);
+                }
+                final long order = previous != null ? previous.order() : sequence.getAndIncrement();
+                final Entry entry = new Entry(order, clazz, provider);
+                ordered.put(order, entry);
+                index(entry);
+                return entry;
+            });
+            if (registered.primary()) {
+                warnIfAmbiguous(clazz, ProviderStoreImpl.conflictingPrimaries(clazz, ordered.values().stream()
+                        .filter(other -> other != registered && other.primary())
+                        .map(Entry::clazz)));
+            }
+            generation.incrementAndGet();
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ObjectProvider<T> get(String name) {
+        requireNonNull(name, "Cannot get provider with null name");
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return (ObjectProvider<T>) frozen.names().get(name);
+        }
+        final Entry entry = providers.get(name);
+        return entry != null ? (ObjectProvider<T>) entry.provider() : null;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> List<ObjectProvider<T>> get(Class<T> clazz) {
+        requireNonNull(clazz, "Cannot get provider with null class");
+        if (Object.class.equals(clazz)) {
+            return (List) getAll();
+        }
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return (List) frozen.types().getOrDefault(clazz, List.of());
+        }
+        final Bucket<ObjectProvider<?>> bucket = types.get(clazz);
+        return bucket != null ? (List) bucket.values() : List.of();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> List<ObjectProvider<T>> getPrimary(Class<T> clazz) {
+        requireNonNull(clazz, "Cannot get primary provider with null class");
+        final Snapshot frozen = snapshot;
+        final List<ObjectProvider<?>> candidates;
+        if (frozen != null) {
+            candidates = frozen.primaries().getOrDefault(clazz, List.of());
+        } else {
+            final Bucket<ObjectProvider<?>> bucket = primaries.get(clazz);
+            candidates = bucket != null ? bucket.values() : List.of();
+        }
+        if (candidates.size() > 1) {
+            throw new ProviderCandidatesException(candidates.size(), clazz);
+        }
+        return (List) candidates;
+    }
+
+    @Override
+    public Set<Class<?>> getAllClasses() {
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return frozen.classes();
+        }
+        final Set<Class<?>> classes = new HashSet<>();
+        for (Entry entry : ordered.values()) {
+            classes.add(entry.clazz());
+        }
+        return classes;
+    }
+
+    @Override
+    public List<Class<?>> getAllAnnotatedWith(Class<? extends Annotation> annotationType) {
+        requireNonNull(annotationType, "Cannot get classes with null annotation type");
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return frozen.annotations().getOrDefault(annotationType, List.of());
+        }
+        final Bucket<Class<?>> bucket = annotations.get(annotationType);
+        return bucket != null ? bucket.values() : List.of();
+    }
+
+    @Override
+    public List<ObjectProvider<?>> getAll() {
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return frozen.providers();
+        }
+        return ordered.values().stream()
+                .<ObjectProvider<?>>map(Entry::provider)
+                .toList();
+    }
+
+    @Override
+    public Integer count() {
+        final Snapshot frozen = snapshot;
+        return frozen != null ? frozen.providers().size() : providers.size();
+    }
+
+    @Override
+    public void clear() {
+        lifecycleLock.writeLock().lock();
+        try {
+            logger.debug("Clearing all {} providers from store", providers.size());
+            providers.clear();
+            ordered.clear();
+            types.clear();
+            primaries.clear();
+            annotations.clear();
+            snapshot = null;
+            generation.incrementAndGet();
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void freeze() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (snapshot != null) return;
+            final Map<String, ObjectProvider<?>> names = new HashMap<>(providers.size());
+            providers.forEach((name, entry) -> names.put(name, entry.provider()));
+            snapshot = new Snapshot(Map.copyOf(names), values(types), values(primaries), values(annotations),
+                    getAll(), Set.copyOf(getAllClasses()));
+            logger.debug("Froze store with {} providers indexed under {} types", names.size(), types.size());
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    public void setAllowOverride(boolean allowOverride) {
+        this.allowOverride = allowOverride;
+    }
+
+    public void setIgnoreOverride(boolean ignoreOverride) {
+        this.ignoreOverride = ignoreOverride;
+    }
+
+    private void index(Entry entry) {
+        for (Class<?> type : entry.types()) {
+            if (Object.class.equals(type)) continue;
+            types.computeIfAbsent(type, key -> new Bucket<>(Entry::provider, false)).add(entry);
+            if (entry.primary()) {
+                primaries.computeIfAbsent(type, key -> new Bucket<>(Entry::provider, false)).add(entry);
+            }
+        }
+        for (Class<? extends Annotation> annotationType : entry.annotations()) {
+            annotations.computeIfAbsent(annotationType, key -> new Bucket<>(Entry::clazz, true)).add(entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        ordered.remove(entry.order());
+        for (Class<?> type : entry.types()) {
+            if (Object.class.equals(type)) continue;
+            remove(types.get(type), entry);
+            if (entry.primary()) {
+                remove(primaries.get(type), entry);
+            }
+        }
+        for (Class<? extends Annotation> annotationType : entry.annotations()) {
+            remove(annotations.get(annotationType), entry);
+        }
+    }
+
+    private static void remove(Bucket<?> bucket, Entry entry) {
+        if (bucket != null) {
+            bucket.remove(entry);
+        }
+    }
+
+    private static void warnIfAmbiguous(Class<?> clazz, List<Class<?>> conflicting) {
+        if (!conflicting.isEmpty()) {
+            logger.warn("Primary class {} shares a type with primary classes {}, primary lookups for the types they share will fail",
+                    clazz.getSimpleName(), conflicting.stream().map(Class::getSimpleName).toList());
+        }
+    }
+
+    private static <K, V> Map<K, List<V>> values(Map<K, Bucket<V>> table) {
+        final Map<K, List<V>> values = new HashMap<>(table.size());
+        table.forEach((key, bucket) -> {
+            final List<V> list = bucket.values();
+            if (!list.isEmpty()) {
+                values.put(key, list);
+            }
+        });
+        return Map.copyOf(values);
+    }
+
+    private record Snapshot(Map<String, ObjectProvider<?>> names, Map<Class<?>, List<ObjectProvider<?>>> types,
+                            Map<Class<?>, List<ObjectProvider<?>>> primaries,
+                            Map<Class<? extends Annotation>, List<Class<?>>> annotations,
+                            List<ObjectProvider<?>> providers, Set<Class<?>> classes) {}
+
+    /**
+     * Index bucket, holding the entries in a {@link ConcurrentSkipListMap} keyed by their registration order. Entries
+     * are only ever added or removed on their own, so registrations sharing a type never copy the bucket or wait on each
+     * other, and the values handed out to readers are only built when read. Annotation buckets hand out distinct
+     * classes, as the same class may be registered under several names. Buckets left empty are kept, as removing them
+     * could race with a registration about to add to them.
+     */
+    private record Bucket<V>(ConcurrentSkipListMap<Long, Entry> entries, Function<Entry, V> mapper, boolean distinct) {
+
+        private Bucket(Function<Entry, V> mapper, boolean distinct) {
+            this(new ConcurrentSkipListMap<>(), mapper, distinct);
+        }
+
+        private void add(Entry entry) {
+            entries.put(entry.order(), entry);
+        }
+
+        private void remove(Entry entry) {
+            entries.remove(entry.order(), entry);
+        }
+
+        private List<V> values() {
+            final var values = entries.values().stream().map(mapper);
+            return distinct ? values.distinct().toList() : values.toList();
+        }
+    }
+
+    private record Entry(long order, Class<?> clazz, ObjectProvider<?> provider, Set<Class<?>> types,
+                         Set<Class<? extends Annotation>> annotations) {
+
+        private Entry(long order, Class<?> clazz, ObjectProvider<?> provider) {
+            this(order, clazz, provider, Types.getAssignableTypes(clazz), Types.getAnnotationTypes(clazz));
+        }
+
+        private boolean primary() {
+            return annotations.contains(Primary.class);
+        }
+    }
+}
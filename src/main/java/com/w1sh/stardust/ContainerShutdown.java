@@ -0,0 +1,163 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.ShutdownReport.ComponentShutdown;
+import com.w1sh.stardust.ShutdownReport.Status;
+import com.w1sh.stardust.naming.NamingStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Destroys the components of a container in dependency order, running the pre-destroy interceptors of a component only
+ * once every component depending on it is done with. Components that do not depend on each other are destroyed
+ * concurrently, each on its own virtual thread.
+ * <br>
+ * Dependencies are taken from the {@link DependencyGraph} of every registration, later registrations being done with
+ * before earlier ones, since their components may depend on anything registered before them. Providers registered
+ * outside of any graph, such as the internals of the container, are destroyed last, one at a time.
+ * <br>
+ * A component whose interceptors fail or run past the timeout of a single component no longer holds up the components
+ * it depends on. Once the overall timeout is over, the shutdown stops waiting altogether and interrupts whatever is
+ * still running.
+ */
+final class ContainerShutdown {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContainerShutdown.class);
+
+    private final InterceptorPipeline pipeline;
+    private final Duration timeout;
+    private final Duration componentTimeout;
+    private final Queue<ComponentShutdown> outcomes = new ConcurrentLinkedQueue<>();
+
+    ContainerShutdown(InterceptorPipeline pipeline, Duration timeout, Duration componentTimeout) {
+        this.pipeline = pipeline;
+        this.timeout = timeout;
+        this.componentTimeout = componentTimeout;
+    }
+
+    /**
+     * Destroys every component.
+     *
+     * @param registrations  the order of each registration, from the first to the last
+     * @param lookup         finds the provider registered under a name
+     * @param providers      every provider registered, in registration order
+     * @param namingStrategy names the providers registered outside of any graph
+     * @return the outcome of every component destroyed.
+     */
+    ShutdownReport run(List<List<DependencyGraph.Node>> registrations, Function<String, ObjectProvider<?>> lookup,
+                       List<ObjectProvider<?>> providers, NamingStrategy namingStrategy) {
+        final long start = System.nanoTime();
+        final Set<ObjectProvider<?>> claimed = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Component> components = new ArrayList<>();
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletableFuture<Void> later = CompletableFuture.completedFuture(null);
+            for (int batch = registrations.size() - 1; batch >= 0; batch--) {
+                final List<DependencyGraph.Node> order = registrations.get(batch);
+                final Map<DependencyGraph.Node, CompletableFuture<Void>> destructions = new HashMap<>(order.size());
+                for (int position = order.size() - 1; position >= 0; position--) {
+                    final DependencyGraph.Node node = order.get(position);
+                    final ObjectProvider<?> provider = lookup.apply(node.name());
+                    final Component component = provider != null && claimed.add(provider) ? component(node.name(), provider) : null;
+                    if (component != null) components.add(component);
+
+                    final List<CompletableFuture<Void>> dependents = new ArrayList<>(node.dependents().size() + 1);
+                    node.dependents().forEach(dependent -> dependents.add(destructions.get(dependent)));
+                    dependents.add(later);
+                    destructions.put(node, CompletableFuture.allOf(dependents.toArray(CompletableFuture[]::new))
+                            .thenCompose(ignored -> destroy(component, executor)));
+                }
+                later = CompletableFuture.allOf(destructions.values().toArray(CompletableFuture[]::new));
+            }
+
+            final List<ObjectProvider<?>> remaining = new ArrayList<>(providers);
+            Collections.reverse(remaining);
+            for (ObjectProvider<?> provider : remaining) {
+                if (!claimed.add(provider) || provider.instances().isEmpty()) continue;
+                final Component component = component(namingStrategy.generate(provider.instances().get(0).getClass()), provider);
+                if (component != null) components.add(component);
+                later = later.thenCompose(ignored -> destroy(component, executor));
+            }
+
+            await(later);
+            return report(components, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the component to destroy, or {@code null} if no pre-destroy interceptor applies to any of its instances.
+     */
+    private Component component(String name, ObjectProvider<?> provider) {
+        final List<Object> instances = provider.instances().stream()
+                .<Object>map(instance -> instance)
+                .filter(instance -> pipeline.appliesTo(instance.getClass()))
+                .toList();
+        return instances.isEmpty() ? null : new Component(name, instances);
+    }
+
+    private CompletableFuture<Void> destroy(Component component, Executor executor) {
+        if (component == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final long start = System.nanoTime();
+        return CompletableFuture.runAsync(() -> component.instances().forEach(pipeline::intercept), executor)
+                .orTimeout(componentTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .handle((result, throwable) -> {
+                    record(component, Duration.ofNanos(System.nanoTime() - start), throwable);
+                    return null;
+                });
+    }
+
+    private void record(Component component, Duration elapsed, Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause == null) {
+            logger.debug("Destroyed {} in {} ms", component.name(), elapsed.toMillis());
+            outcomes.add(new ComponentShutdown(component.name(), Status.DESTROYED, elapsed, null));
+        } else if (cause instanceof TimeoutException) {
+            logger.warn("Gave up destroying {} after {} ms", component.name(), elapsed.toMillis());
+            outcomes.add(new ComponentShutdown(component.name(), Status.TIMED_OUT, elapsed, null));
+        } else {
+            logger.error("Failed to destroy {} after {} ms", component.name(), elapsed.toMillis(), cause);
+            outcomes.add(new ComponentShutdown(component.name(), Status.FAILED, elapsed, cause));
+        }
+    }
+
+    private void await(CompletableFuture<Void> shutdown) {
+        try {
+            shutdown.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Shutdown did not complete within {} ms, abandoning the remaining components", timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for the shutdown, abandoning the remaining components");
+        } catch (ExecutionException e) {
+            // components record their own failures, nothing is left to report here
+        }
+    }
+
+    /**
+     * Reports the components done with so far, every other component being abandoned. Called before interrupting the
+     * components still running, so those are reported as abandoned even if the interruption makes them finish.
+     */
+    private ShutdownReport report(List<Component> components, Duration elapsed) {
+        final List<ComponentShutdown> reported = new ArrayList<>(outcomes);
+        final Set<String> done = new HashSet<>();
+        reported.forEach(outcome -> done.add(outcome.name()));
+        for (Component component : components) {
+            if (!done.contains(component.name())) {
+                reported.add(new ComponentShutdown(component.name(), Status.ABANDONED, Duration.ZERO, null));
+            }
+        }
+        final long destroyed = reported.stream().filter(outcome -> outcome.status() == Status.DESTROYED).count();
+        logger.info("Shut down in {} ms, {} of {} components destroyed", elapsed.toMillis(), destroyed, reported.size());
+        return new ShutdownReport(elapsed, reported);
+    }
+
+    private record Component(String name, List<Object> instances) {}
+}
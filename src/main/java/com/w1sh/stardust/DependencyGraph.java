@@ -0,0 +1,385 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Module;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.binding.Binding;
+import com.w1sh.stardust.exception.ProviderRegistrationException;
+import com.w1sh.stardust.naming.NamingStrategy;
+import com.w1sh.stardust.util.Constructors;
+import com.w1sh.stardust.util.Types;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The providers about to be registered along with what each of them depends on, worked out from the parameters of
+ * their constructors and {@link Provide} methods before anything is instantiated.
+ * <br>
+ * Every class is a node, and so is every {@link Provide} method of a {@link Module}, the latter also depending on the
+ * module itself. A parameter depends on the node registered under its qualifier, or otherwise on every node whose type
+ * can be assigned to it, narrowed down to the {@link com.w1sh.stardust.annotation.Primary primary} ones when there are
+ * any. Dependencies that are not part of the graph, such as providers registered earlier, add no edge.
+ * <br>
+ * {@link #order()} returns the nodes so that every node comes after the nodes it depends on, breaking ties by the order
+ * in which the classes were given, so the same classes are always registered in the same order. Cycles are reported
+ * when the graph is built, through a {@link ProviderRegistrationException}.
+ */
+public final class DependencyGraph {
+
+    private final List<Node> nodes;
+    private final List<Node> order;
+
+    private DependencyGraph(List<Node> nodes) {
+        this.nodes = List.copyOf(nodes);
+        this.order = sort(this.nodes, Comparator.comparingInt(Node::index));
+    }
+
+    /**
+     * Builds the dependency graph of the given classes.
+     *
+     * @param classes        the classes to register, in the order they were found
+     * @param namingStrategy the naming strategy used to name providers with no explicit name
+     * @return the graph of the given classes.
+     * @throws ProviderRegistrationException if the classes depend on each other in a cycle
+     */
+    public static DependencyGraph of(Collection<Class<?>> classes, NamingStrategy namingStrategy) {
+        final List<Node> nodes = new ArrayList<>();
+        for (Class<?> clazz : new LinkedHashSet<>(classes)) {
+            final var constructor = new ResolvableConstructorImpl<>(Constructors.getInjectConstructor(clazz));
+            final Node node = new Node(nodes.size(), name(constructor, namingStrategy), constructor, null);
+            nodes.add(node);
+            if (clazz.isAnnotationPresent(Module.class)) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (!method.isAnnotationPresent(Provide.class)) continue;
+                    final var provideMethod = new ResolvableMethodImpl<>(method, null);
+                    nodes.add(new Node(nodes.size(), name(provideMethod, namingStrategy), provideMethod, node));
+                }
+            }
+        }
+        link(nodes);
+        return new DependencyGraph(nodes);
+    }
+
+    /**
+     * Returns every node of the graph, in the order the classes were given.
+     *
+     * @return an immutable list of all the nodes.
+     */
+    public List<Node> nodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns every node of the graph, each one placed after all of its dependencies.
+     *
+     * @return an immutable list of all the nodes in dependency order.
+     */
+    public List<Node> order() {
+        return order;
+    }
+
+    /**
+     * Returns every node of the graph, each one placed after all of its dependencies, the nodes matching the given
+     * predicate being only placed once no other node can be. Any other tie is broken like in {@link #order()}. Deferring
+     * the nodes that block on an asynchronous dependency places every asynchronous node reachable without blocking before
+     * them, so that all of those are started before anything waits.
+     *
+     * @param deferred the predicate matching the nodes to place as late as possible
+     * @return an immutable list of all the nodes in dependency order.
+     */
+    public List<Node> order(Predicate<Node> deferred) {
+        final boolean[] late = new boolean[nodes.size()];
+        for (Node node : nodes) {
+            late[node.index()] = deferred.test(node);
+        }
+        return sort(nodes, Comparator.<Node, Boolean>comparing(node -> late[node.index()])
+                .thenComparingInt(Node::index));
+    }
+
+    /**
+     * Returns the classes needed to create the nodes matching the given predicate, being the classes of those nodes and
+     * of every node they depend on, directly or not. Registering a module registers all of its {@link Provide} methods,
+     * so as soon as one method of a module is needed, so is everything its other methods depend on.
+     *
+     * @param predicate the predicate matching the nodes to create
+     * @return the classes needed, in the order the classes were given.
+     */
+    public List<Class<?>> classesRequiredBy(Predicate<Node> predicate) {
+        final Map<Node, List<Node>> members = new HashMap<>();
+        for (Node node : nodes) {
+            members.computeIfAbsent(owner(node), owner -> new ArrayList<>()).add(node);
+        }
+        final Set<Node> required = new HashSet<>();
+        final Deque<Node> pending = new ArrayDeque<>();
+        for (Node node : nodes) {
+            if (predicate.test(node) && required.add(owner(node))) {
+                pending.add(owner(node));
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (Node member : members.get(pending.poll())) {
+                for (Node dependency : member.dependencies()) {
+                    if (required.add(owner(dependency))) {
+                        pending.add(owner(dependency));
+                    }
+                }
+            }
+        }
+        return nodes.stream()
+                .filter(required::contains)
+                .<Class<?>>map(node -> node.executable().getActualType())
+                .toList();
+    }
+
+    /**
+     * Returns the graph of the given classes alone, along with the {@link Provide} methods of those that are modules,
+     * without working out their dependencies again. Dependencies on nodes left out add no edge, like dependencies on
+     * providers that are not part of a graph, so the given classes are expected to be registered after those.
+     *
+     * @param classes the classes of the graph to keep
+     * @return the graph of the given classes, its nodes in the order the classes of this graph were given.
+     */
+    public DependencyGraph subgraph(Collection<Class<?>> classes) {
+        final Set<Class<?>> kept = new HashSet<>(classes);
+        final Map<Node, Node> copies = new HashMap<>();
+        final List<Node> subgraph = new ArrayList<>();
+        for (Node node : nodes) {
+            if (!kept.contains(owner(node).executable().getActualType())) continue;
+            final Node copy = new Node(subgraph.size(), node.name(), node.executable(), copies.get(node.module()));
+            copies.put(node, copy);
+            subgraph.add(copy);
+        }
+        for (Node node : nodes) {
+            final Node copy = copies.get(node);
+            if (copy == null) continue;
+            for (Node dependency : node.dependencies()) {
+                final Node dependencyCopy = copies.get(dependency);
+                if (dependencyCopy != null) {
+                    copy.dependencies.add(dependencyCopy);
+                    dependencyCopy.dependents.add(copy);
+                }
+            }
+        }
+        return new DependencyGraph(subgraph);
+    }
+
+    private static Node owner(Node node) {
+        return node.module() != null ? node.module() : node;
+    }
+
+    private static String name(ResolvableExecutable<?> executable, NamingStrategy namingStrategy) {
+        return Objects.requireNonNullElseGet(executable.getMetadata().name(),
+                () -> namingStrategy.generate(executable.getActualType()));
+    }
+
+    private static void link(List<Node> nodes) {
+        final Map<String, Node> names = new HashMap<>();
+        final Map<Class<?>, List<Node>> assignable = new HashMap<>();
+        for (Node node : nodes) {
+            names.put(node.name(), node);
+            for (Class<?> type : Types.getAssignableTypes(node.executable().getActualType())) {
+                assignable.computeIfAbsent(type, key -> new ArrayList<>()).add(node);
+            }
+        }
+        for (Node node : nodes) {
+            final Set<Node> dependencies = new LinkedHashSet<>();
+            if (node.module() != null) {
+                dependencies.add(node.module());
+            }
+            for (ResolvableParameter<?> parameter : node.executable().getParameters()) {
+                dependencies.addAll(candidates(node, parameter, assignable, names));
+            }
+            for (Node dependency : dependencies) {
+                node.dependencies.add(dependency);
+                dependency.dependents.add(node);
+            }
+        }
+    }
+
+    private static List<Node> candidates(Node node, ResolvableParameter<?> parameter,
+                                         Map<Class<?>, List<Node>> assignable, Map<String, Node> names) {
+        final ParameterMetadata metadata = parameter.getMetadata();
+        if (metadata.property() != null) {
+            return List.of();
+        }
+        if (metadata.qualifier() != null) {
+            final Node qualified = names.get(metadata.qualifier());
+            return qualified != null ? List.of(qualified) : List.of();
+        }
+
+        final Class<?> type = parameter.getActualType();
+        final boolean introspected = metadata.introspect() && (type.isArray() || Collection.class.isAssignableFrom(type));
+        final Class<?> dependencyType;
+        if (introspected && type.isArray()) {
+            dependencyType = type.getComponentType();
+        } else if (introspected || Binding.class.isAssignableFrom(type)) {
+            dependencyType = typeArgument(parameter);
+        } else {
+            dependencyType = type;
+        }
+        if (dependencyType == null || Object.class.equals(dependencyType)) {
+            return List.of();
+        }
+
+        final List<Node> candidates = new ArrayList<>(assignable.getOrDefault(dependencyType, List.of()));
+        if (introspected) {
+            return candidates;
+        }
+        if (candidates.size() > 1) {
+            candidates.remove(node);
+            final List<Node> primaries = candidates.stream()
+                    .filter(candidate -> candidate.executable().getMetadata().primary())
+                    .toList();
+            if (!primaries.isEmpty()) {
+                return primaries;
+            }
+        }
+        return candidates;
+    }
+
+    private static Class<?> typeArgument(ResolvableParameter<?> parameter) {
+        final Type genericType;
+        try {
+            genericType = parameter.getParameterizedType();
+        } catch (ClassCastException e) {
+            // raw types carry no type argument to depend on
+            return null;
+        }
+        if (genericType instanceof ParameterizedType parameterizedType) {
+            final Type argument = parameterizedType.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> clazz) return clazz;
+            if (argument instanceof ParameterizedType parameterizedArgument) return (Class<?>) parameterizedArgument.getRawType();
+        }
+        return null;
+    }
+
+    /**
+     * Sorts the nodes with Kahn's algorithm, always taking the first node in the given priority among those whose
+     * dependencies are all placed already.
+     */
+    private static List<Node> sort(List<Node> nodes, Comparator<Node> priority) {
+        final int[] pending = new int[nodes.size()];
+        final PriorityQueue<Node> ready = new PriorityQueue<>(priority);
+        for (Node node : nodes) {
+            pending[node.index()] = node.dependencies().size();
+            if (pending[node.index()] == 0) {
+                ready.add(node);
+            }
+        }
+
+        final List<Node> order = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            final Node node = ready.poll();
+            order.add(node);
+            for (Node dependent : node.dependents()) {
+                if (--pending[dependent.index()] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < nodes.size()) {
+            throw ProviderRegistrationException.circularDependency(findCycle(nodes, pending));
+        }
+        return List.copyOf(order);
+    }
+
+    /**
+     * Walks the dependencies of the nodes left unsorted until a node repeats, every one of them having at least one
+     * unsorted dependency, and returns the names along the cycle found.
+     */
+    private static List<String> findCycle(List<Node> nodes, int[] pending) {
+        Node current = nodes.stream()
+                .filter(node -> pending[node.index()] > 0)
+                .findFirst()
+                .orElseThrow();
+        final Map<Node, Integer> visited = new LinkedHashMap<>();
+        while (!visited.containsKey(current)) {
+            visited.put(current, visited.size());
+            current = current.dependencies().stream()
+                    .filter(dependency -> pending[dependency.index()] > 0)
+                    .findFirst()
+                    .orElseThrow();
+        }
+        final List<String> cycle = new ArrayList<>();
+        final int start = visited.get(current);
+        for (Node node : visited.keySet()) {
+            if (visited.get(node) >= start) {
+                cycle.add(node.name());
+            }
+        }
+        cycle.add(current.name());
+        return cycle;
+    }
+
+    /**
+     * A provider to register, either a class or a {@link Provide} method of a module.
+     */
+    public static final class Node {
+
+        private final int index;
+        private final String name;
+        private final ResolvableExecutable<?> executable;
+        private final Node module;
+        private final List<Node> dependencies = new ArrayList<>();
+        private final List<Node> dependents = new ArrayList<>();
+
+        private Node(int index, String name, ResolvableExecutable<?> executable, Node module) {
+            this.index = index;
+            this.name = name;
+            this.executable = executable;
+            this.module = module;
+        }
+
+        /**
+         * Returns the position of this node among the given classes and their {@link Provide} methods.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns the name the provider will be registered under.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the constructor or method creating the provider. {@link Provide} methods are not bound to an instance of
+         * their module yet, see {@link ResolvableMethodImpl#bind(Object)}.
+         */
+        public ResolvableExecutable<?> executable() {
+            return executable;
+        }
+
+        /**
+         * Returns the node of the module declaring this {@link Provide} method, or {@code null} if this node is a class.
+         */
+        public Node module() {
+            return module;
+        }
+
+        /**
+         * Returns the nodes this node depends on.
+         */
+        public List<Node> dependencies() {
+            return Collections.unmodifiableList(dependencies);
+        }
+
+        /**
+         * Returns the nodes depending on this node.
+         */
+        public List<Node> dependents() {
+            return Collections.unmodifiableList(dependents);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.w1sh.stardust;
+
+import java.util.Set;
+
+/**
+ * Annotation metadata of a {@link ResolvableExecutable}, read once when the executable is created.
+ *
+ * @param name           the name given through {@link com.w1sh.stardust.annotation.Provide}, or {@code null} if none
+ * @param scope          the scope given through {@link com.w1sh.stardust.annotation.Provide}, or
+ *                       {@link Scope#SINGLETON} if not present
+ * @param priority       the value of {@link javax.annotation.Priority}, or 0 if not present
+ * @param prioritized    whether {@link javax.annotation.Priority} is present, telling an explicit priority of 0 apart from
+ *                       none
+ * @param activeProfiles the profiles given through {@link com.w1sh.stardust.annotation.Profile}
+ * @param primary        whether the executable is annotated with {@link com.w1sh.stardust.annotation.Primary}
+ * @param poolSize       the maximum size given through {@link com.w1sh.stardust.annotation.Pool}, or 0 if not present
+ */
+public record ExecutableMetadata(String name, Scope scope, Integer priority, boolean prioritized,
+                                 Set<String> activeProfiles, boolean primary, int poolSize) {}
@@ -0,0 +1,53 @@
+package com.w1sh.stardust;
+
+import java.util.List;
+
+/**
+ * Keeps track of the instances created by a {@link PrototypeObjectProvider}, so that they can be found again later on,
+ * for instance to run their pre-destroy methods when the container is closed. Implementations must allow instances to
+ * be tracked and read concurrently.
+ *
+ * @param <T> the type of the tracked instances
+ */
+public interface InstanceTracker<T> {
+
+    /**
+     * Tracks an instance that was just created.
+     *
+     * @param instance the instance to track
+     */
+    void track(T instance);
+
+    /**
+     * Returns the instances tracked at the time of the call.
+     *
+     * @return an immutable list of the tracked instances, oldest first where the tracker keeps an order.
+     */
+    List<T> instances();
+
+    /**
+     * Returns a tracker that keeps no instance, for types that need nothing done to their instances once created.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> InstanceTracker<T> none() {
+        return (InstanceTracker<T>) NoInstanceTracker.INSTANCE;
+    }
+
+    /**
+     * Returns a tracker that keeps its instances through weak references, so instances no longer used anywhere else
+     * can still be garbage collected.
+     */
+    static <T> InstanceTracker<T> weak() {
+        return new WeakInstanceTracker<>();
+    }
+
+    /**
+     * Returns a tracker that keeps the given number of most recently created instances, dropping older ones.
+     *
+     * @param limit the maximum number of instances to keep
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    static <T> InstanceTracker<T> bounded(int limit) {
+        return new BoundedInstanceTracker<>(limit);
+    }
+}
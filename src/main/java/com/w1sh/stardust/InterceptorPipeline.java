@@ -0,0 +1,75 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.util.Types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, ordered chain of the {@link InvocationInterceptor interceptors} registered for one
+ * {@link InvocationInterceptor.InvocationType}.
+ * <br>
+ * Interceptors are sorted by their {@link javax.annotation.Priority} once, when the pipeline is built, and the
+ * interceptors that {@link InvocationInterceptor#appliesTo(Class) apply} to a class are worked out the first time an
+ * instance of that class goes through the pipeline. Adding or removing an interceptor builds a new pipeline instead of
+ * changing this one, which also drops whatever was cached per class.
+ */
+final class InterceptorPipeline {
+
+    private static final InvocationInterceptor[] NONE = new InvocationInterceptor[0];
+
+    static final InterceptorPipeline EMPTY = new InterceptorPipeline(List.of());
+
+    private final List<InvocationInterceptor> interceptors;
+    private final ClassValue<InvocationInterceptor[]> applicable = new ClassValue<>() {
+        @Override
+        protected InvocationInterceptor[] computeValue(Class<?> type) {
+            final List<InvocationInterceptor> matching = new ArrayList<>(interceptors.size());
+            for (InvocationInterceptor interceptor : interceptors) {
+                if (interceptor.appliesTo(type)) {
+                    matching.add(interceptor);
+                }
+            }
+            return matching.isEmpty() ? NONE : matching.toArray(InvocationInterceptor[]::new);
+        }
+    };
+
+    private InterceptorPipeline(List<InvocationInterceptor> interceptors) {
+        this.interceptors = interceptors;
+    }
+
+    static InterceptorPipeline of(Collection<InvocationInterceptor> interceptors) {
+        if (interceptors.isEmpty()) return EMPTY;
+        return new InterceptorPipeline(interceptors.stream()
+                .sorted(Comparator.comparing(interceptor -> Types.getPriority(interceptor.getClass())))
+                .toList());
+    }
+
+    /**
+     * Runs every interceptor that applies to the class of the given instance, in order of priority.
+     *
+     * @param instance the instance to intercept
+     */
+    void intercept(Object instance) {
+        if (interceptors.isEmpty()) return;
+        for (InvocationInterceptor interceptor : applicable.get(instance.getClass())) {
+            interceptor.intercept(instance);
+        }
+    }
+
+    /**
+     * Returns whether any interceptor of this pipeline applies to the given class.
+     *
+     * @param type the class to check
+     * @return {@code true} if at least one interceptor would run for instances of the class.
+     */
+    boolean appliesTo(Class<?> type) {
+        return !interceptors.isEmpty() && applicable.get(type).length > 0;
+    }
+
+    List<InvocationInterceptor> interceptors() {
+        return interceptors;
+    }
+}
@@ -20,6 +20,18 @@ public interface InvocationInterceptor {
      */
     InvocationType getInterceptorType();
 
+    /**
+     * Returns whether this interceptor has anything to do for instances of the given class. Interceptors that return
+     * {@code false} are skipped for that class altogether. The result is cached per class by the container, so it should
+     * only depend on the class itself.
+     *
+     * @param type the class of the instances that would be intercepted
+     * @return {@code true} if {@link #intercept(Object)} should be called for instances of the class.
+     */
+    default boolean appliesTo(Class<?> type) {
+        return true;
+    }
+
     enum InvocationType {
         /**
          * Intercepts a provider constructor invocation
@@ -1,15 +1,12 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.LifecycleMetadata.LifecycleMethod;
 import com.w1sh.stardust.exception.PostConstructInvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.List;
 
 @Priority(998)
 public class JakartaPostConstructInterceptor implements InvocationInterceptor {
@@ -18,24 +15,24 @@ public class JakartaPostConstructInterceptor implements InvocationInterceptor {
 
     @Override
     public void intercept(Object instance) {
-        final Deque<Method> postConstructMethods = new LinkedList<>();
-        for (Class<?> clazz = instance.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
-            for (Method method : clazz.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(PostConstruct.class)) {
-                    postConstructMethods.addFirst(method);
-                }
-            }
-        }
+        final List<LifecycleMethod> postConstructMethods = LifecycleMetadata.forClass(instance.getClass()).postConstructMethods();
         logger.debug("Found {} post construct methods to invoke on {}", postConstructMethods.size(), instance.getClass());
-        for (Method m : postConstructMethods) {
+        for (LifecycleMethod m : postConstructMethods) {
             try {
                 m.invoke(instance);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new PostConstructInvocationException(m, e);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PostConstructInvocationException(m.method(), e);
             }
         }
     }
 
+    @Override
+    public boolean appliesTo(Class<?> type) {
+        return !LifecycleMetadata.forClass(type).postConstructMethods().isEmpty();
+    }
+
     @Override
     public InvocationType getInterceptorType() {
         return InvocationType.POST_CONSTRUCT;
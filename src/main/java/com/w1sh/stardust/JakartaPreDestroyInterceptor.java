@@ -1,10 +1,36 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.LifecycleMetadata.LifecycleMethod;
+import com.w1sh.stardust.exception.PreDestroyInvocationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Priority;
+import java.util.List;
+
+@Priority(998)
 public class JakartaPreDestroyInterceptor implements InvocationInterceptor {
 
+    private static final Logger logger = LoggerFactory.getLogger(JakartaPreDestroyInterceptor.class);
+
     @Override
     public void intercept(Object instance) {
+        final List<LifecycleMethod> preDestroyMethods = LifecycleMetadata.forClass(instance.getClass()).preDestroyMethods();
+        logger.debug("Found {} pre destroy methods to invoke on {}", preDestroyMethods.size(), instance.getClass());
+        for (LifecycleMethod m : preDestroyMethods) {
+            try {
+                m.invoke(instance);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PreDestroyInvocationException(m.method(), e);
+            }
+        }
+    }
 
+    @Override
+    public boolean appliesTo(Class<?> type) {
+        return !LifecycleMetadata.forClass(type).preDestroyMethods().isEmpty();
     }
 
     @Override
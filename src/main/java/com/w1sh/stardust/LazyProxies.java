@@ -0,0 +1,60 @@
+package com.w1sh.stardust;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+/**
+ * Proxies standing in for {@link LazySingletonObjectProvider lazy singletons} that are injected before being created.
+ * Every method called on a proxy asks the provider for its instance and calls the method on it, so the singleton is
+ * created on the first call rather than when the proxy is injected.
+ * <br>
+ * {@code equals} and {@code hashCode} are the exception, answered from the identity of the proxy itself without
+ * creating the singleton, so that proxies can be put in hash-based collections while staying lazy. A proxy is therefore
+ * only equal to itself and never to the instance it stands for, keeping equality symmetric. {@code toString} is
+ * delegated like any other method and does create the singleton.
+ */
+final class LazyProxies {
+
+    private LazyProxies() {}
+
+    /**
+     * Returns whether dependencies of the given type can be injected as proxies, which is the case of public interfaces.
+     */
+    static boolean canProxy(Class<?> type) {
+        return type.isInterface() && Modifier.isPublic(type.getModifiers());
+    }
+
+    /**
+     * Creates a proxy of the given interface delegating to the instance of the provider.
+     *
+     * @param type     the interface to proxy, see {@link #canProxy(Class)}
+     * @param provider the provider of the instance to delegate to
+     * @return the proxy.
+     */
+    static Object of(Class<?> type, ObjectProvider<?> provider) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (isEquals(method)) {
+                return args[0] == proxy;
+            }
+            if (isHashCode(method)) {
+                return System.identityHashCode(proxy);
+            }
+            try {
+                return method.invoke(provider.singletonInstance(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static boolean isEquals(Method method) {
+        return "equals".equals(method.getName()) && method.getParameterCount() == 1
+                && Object.class.equals(method.getParameterTypes()[0]);
+    }
+
+    private static boolean isHashCode(Method method) {
+        return "hashCode".equals(method.getName()) && method.getParameterCount() == 0;
+    }
+}
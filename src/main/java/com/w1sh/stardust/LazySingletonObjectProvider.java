@@ -0,0 +1,69 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.exception.ComponentCreationException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A singleton provider that only creates its instance the first time it is asked for it. Concurrent first lookups
+ * create a single instance, every other caller waiting for it, and lookups after that only read the instance. When the
+ * creation fails, the next lookup tries again.
+ */
+public final class LazySingletonObjectProvider<T> implements ObjectProvider<T> {
+
+    private final Supplier<T> supplier;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T instance;
+
+    public LazySingletonObjectProvider(Supplier<T> supplier) {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    @Override
+    public T singletonInstance() {
+        T current = instance;
+        if (current != null) {
+            return current;
+        }
+        if (lock.isHeldByCurrentThread()) {
+            throw new ComponentCreationException("Lazy singleton was requested again while being created, its dependencies are circular.");
+        }
+        lock.lock();
+        try {
+            current = instance;
+            if (current == null) {
+                current = Objects.requireNonNull(supplier.get());
+                instance = current;
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T newInstance() {
+        throw new UnsupportedOperationException("Singleton object providers can not provide new instances, only a singleton instance.");
+    }
+
+    /**
+     * Returns the instance if it was created already, otherwise an empty list. Never creates the instance.
+     */
+    @Override
+    public List<T> instances() {
+        final T current = instance;
+        return current != null ? List.of(current) : List.of();
+    }
+
+    /**
+     * Returns whether the instance was created already.
+     *
+     * @return {@code true} if the instance exists, {@code false} if it will be created on the next lookup.
+     */
+    public boolean isInitialized() {
+        return instance != null;
+    }
+}
@@ -0,0 +1,192 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Inject;
+import com.w1sh.stardust.annotation.Warmup;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * The lifecycle callbacks of a class, built with a single walk of its hierarchy the first time it is asked for and
+ * cached per class afterwards.
+ * <br>
+ * Post-construct methods, setter injection points and warm-up methods run superclass first, pre-destroy methods run
+ * subclass first. A method overridden further down the hierarchy is only taken from the overriding class, and only if
+ * the override carries the annotation itself, so no callback runs twice.
+ *
+ * @param postConstructMethods the {@link PostConstruct} annotated methods
+ * @param preDestroyMethods    the {@link PreDestroy} annotated methods
+ * @param injectionPoints      the {@link Inject} annotated setter methods
+ * @param warmupMethods        the {@link Warmup} annotated methods
+ */
+public record LifecycleMetadata(List<LifecycleMethod> postConstructMethods, List<LifecycleMethod> preDestroyMethods,
+                                List<InjectionPoint> injectionPoints, List<LifecycleMethod> warmupMethods) {
+
+    private static final LifecycleMetadata EMPTY = new LifecycleMetadata(List.of(), List.of(), List.of(), List.of());
+
+    private static final ClassValue<LifecycleMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected LifecycleMetadata computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    /**
+     * Returns the lifecycle metadata of the given class.
+     *
+     * @param clazz the class to get the metadata of
+     * @return the cached metadata of the class.
+     */
+    public static LifecycleMetadata forClass(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    private static LifecycleMetadata build(Class<?> type) {
+        final Deque<LifecycleMethod> postConstructMethods = new ArrayDeque<>();
+        final List<LifecycleMethod> preDestroyMethods = new ArrayList<>();
+        final Deque<InjectionPoint> injectionPoints = new ArrayDeque<>();
+        final Deque<LifecycleMethod> warmupMethods = new ArrayDeque<>();
+        final Set<String> overridden = new HashSet<>();
+
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            final List<LifecycleMethod> declaredPostConstructMethods = new ArrayList<>();
+            final List<InjectionPoint> declaredInjectionPoints = new ArrayList<>();
+            final List<LifecycleMethod> declaredWarmupMethods = new ArrayList<>();
+            final Set<String> declaredSignatures = new HashSet<>();
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) continue;
+                final String signature = signature(method);
+                if (!Modifier.isPrivate(method.getModifiers())) {
+                    if (overridden.contains(signature)) continue;
+                    declaredSignatures.add(signature);
+                }
+                if (method.isAnnotationPresent(PostConstruct.class)) {
+                    declaredPostConstructMethods.add(LifecycleMethod.of(method));
+                }
+                if (method.isAnnotationPresent(PreDestroy.class)) {
+                    preDestroyMethods.add(LifecycleMethod.of(method));
+                }
+                if (method.isAnnotationPresent(Inject.class)) {
+                    declaredInjectionPoints.add(InjectionPoint.of(method));
+                }
+                if (method.isAnnotationPresent(Warmup.class)) {
+                    declaredWarmupMethods.add(LifecycleMethod.of(method));
+                }
+            }
+            overridden.addAll(declaredSignatures);
+            for (int i = declaredPostConstructMethods.size() - 1; i >= 0; i--) {
+                postConstructMethods.addFirst(declaredPostConstructMethods.get(i));
+            }
+            for (int i = declaredInjectionPoints.size() - 1; i >= 0; i--) {
+                injectionPoints.addFirst(declaredInjectionPoints.get(i));
+            }
+            for (int i = declaredWarmupMethods.size() - 1; i >= 0; i--) {
+                warmupMethods.addFirst(declaredWarmupMethods.get(i));
+            }
+        }
+
+        if (postConstructMethods.isEmpty() && preDestroyMethods.isEmpty() && injectionPoints.isEmpty()
+                && warmupMethods.isEmpty()) {
+            return EMPTY;
+        }
+        return new LifecycleMetadata(List.copyOf(postConstructMethods), List.copyOf(preDestroyMethods),
+                List.copyOf(injectionPoints), List.copyOf(warmupMethods));
+    }
+
+    private static String signature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
+    /**
+     * Compiles the method into a handle taking the receiver and the arguments as an {@code Object[]}, returning
+     * {@code null} when the method cannot be unreflected so core reflection is used instead.
+     */
+    private static MethodHandle compile(Method method) {
+        try {
+            method.trySetAccessible();
+            return MethodHandles.lookup().unreflect(method)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, MethodHandle handle, Object instance, Object[] args) throws Throwable {
+        if (handle == null) {
+            try {
+                return method.invoke(instance, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        return (Object) handle.invokeExact(instance, args);
+    }
+
+    /**
+     * A no-argument lifecycle callback, such as a {@link PostConstruct}, {@link PreDestroy} or {@link Warmup} method.
+     *
+     * @param method  the annotated method
+     * @param handle  the compiled method, or {@code null} if it is invoked reflectively
+     */
+    public record LifecycleMethod(Method method, MethodHandle handle) {
+
+        private static final Object[] NO_ARGS = new Object[0];
+
+        private static LifecycleMethod of(Method method) {
+            if (method.getParameterCount() != 0) {
+                throw new IllegalStateException(String.format("Lifecycle method %s:%s must not declare parameters",
+                        method.getDeclaringClass().getName(), method.getName()));
+            }
+            return new LifecycleMethod(method, compile(method));
+        }
+
+        /**
+         * Invokes the callback on the given instance.
+         *
+         * @param instance the instance to invoke the callback on
+         * @throws Throwable whatever the callback throws
+         */
+        public void invoke(Object instance) throws Throwable {
+            LifecycleMetadata.invoke(method, handle, instance, NO_ARGS);
+        }
+    }
+
+    /**
+     * An {@link Inject} annotated setter, along with its parameters ready to be resolved.
+     *
+     * @param method     the annotated method
+     * @param handle     the compiled method, or {@code null} if it is invoked reflectively
+     * @param parameters the parameters of the method
+     */
+    public record InjectionPoint(Method method, MethodHandle handle, List<ResolvableParameter<?>> parameters) {
+
+        private static InjectionPoint of(Method method) {
+            final List<ResolvableParameter<?>> parameters = new ArrayList<>(method.getParameterCount());
+            for (Parameter parameter : method.getParameters()) {
+                parameters.add(new ResolvableParameterImpl<>(parameter));
+            }
+            return new InjectionPoint(method, compile(method), List.copyOf(parameters));
+        }
+
+        /**
+         * Invokes the setter on the given instance.
+         *
+         * @param instance the instance to invoke the setter on
+         * @param args     the resolved arguments, one per parameter
+         * @throws Throwable whatever the setter throws
+         */
+        public void invoke(Object instance, Object[] args) throws Throwable {
+            LifecycleMetadata.invoke(method, handle, instance, args);
+        }
+    }
+}
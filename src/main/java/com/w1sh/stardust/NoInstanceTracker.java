@@ -0,0 +1,23 @@
+package com.w1sh.stardust;
+
+import java.util.List;
+
+/**
+ * An {@link InstanceTracker} that keeps no instance at all.
+ */
+final class NoInstanceTracker implements InstanceTracker<Object> {
+
+    static final NoInstanceTracker INSTANCE = new NoInstanceTracker();
+
+    private NoInstanceTracker() {}
+
+    @Override
+    public void track(Object instance) {
+        // nothing to keep
+    }
+
+    @Override
+    public List<Object> instances() {
+        return List.of();
+    }
+}
@@ -2,7 +2,8 @@ package com.w1sh.stardust;
 
 import java.util.List;
 
-public sealed interface ObjectProvider<T> permits SingletonObjectProvider, PrototypeObjectProvider {
+public sealed interface ObjectProvider<T> permits SingletonObjectProvider, LazySingletonObjectProvider, PrototypeObjectProvider,
+        PooledObjectProvider {
 
     /**
      * Provides the first instance generated by this provider, if no instances exist then one will be created and provided.
@@ -19,12 +20,15 @@ public sealed interface ObjectProvider<T> permits SingletonObjectProvider, Proto
     T newInstance();
 
     /**
-     * Return a {@link List} of all the instances generated by this provider.
+     * Return a {@link List} of the instances generated by this provider that it still keeps, starting with the one
+     * provided by {@code singletonInstance()} once it exists. Singletons keep their only instance, while prototypes keep
+     * the later instances their {@link InstanceTracker} holds, and pools the instances idle in them, so this is not
+     * necessarily every instance ever generated.
      * <br>
      * This could be used to retrieve a specific instance of the class if the one provided by {@code singletonInstance()}
      * is not desired.
      *
-     * @return The {@link List} of all the instances generated by this provider.
+     * @return The {@link List} of the instances kept by this provider.
      */
     List<T> instances();
 }
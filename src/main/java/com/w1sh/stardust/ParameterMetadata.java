@@ -0,0 +1,15 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Property;
+
+/**
+ * Annotation metadata of a {@link ResolvableParameter}, read once when the parameter is created.
+ *
+ * @param qualifier  the name given through {@link com.w1sh.stardust.annotation.Qualifier}, or {@code null} if none
+ * @param required   whether the parameter is annotated with {@link com.w1sh.stardust.annotation.Required}
+ * @param primary    whether the parameter is annotated with {@link com.w1sh.stardust.annotation.Primary}
+ * @param introspect whether the parameter is annotated with {@link com.w1sh.stardust.annotation.Introspect}
+ * @param property   the {@link Property} annotation of the parameter, or {@code null} if none
+ */
+public record ParameterMetadata(String qualifier, boolean required, boolean primary, boolean introspect,
+                                Property property) {}
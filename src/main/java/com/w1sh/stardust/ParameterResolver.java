@@ -1,15 +1,15 @@
 package com.w1sh.stardust;
 
-import com.w1sh.stardust.annotation.Introspect;
 import com.w1sh.stardust.annotation.Property;
 import com.w1sh.stardust.binding.*;
 import com.w1sh.stardust.configuration.PropertiesRegistry;
+import com.w1sh.stardust.configuration.PropertyConverters;
 import com.w1sh.stardust.exception.ComponentCreationException;
 import com.w1sh.stardust.exception.ProviderInitializationException;
+import com.w1sh.stardust.util.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
@@ -21,31 +21,41 @@ public class ParameterResolver {
     private static final Logger logger = LoggerFactory.getLogger(ParameterResolver.class);
 
     private static final Map<Type, Function<ObjectProvider<?>, ? extends Binding<?>>> bindingResolvers = new ConcurrentHashMap<>(8);
-    private static final Map<Class<?>, Function<String, ?>> propertyTypeResolvers = new ConcurrentHashMap<>(8);
     private final ProviderContainer container;
     private final PropertiesRegistry registry;
+    private volatile boolean lazyProxies;
 
     public ParameterResolver(ProviderContainer container, PropertiesRegistry registry) {
         this.container = container;
         this.registry = registry;
         bindingResolvers.put(Lazy.class, LazyBinding::of);
         bindingResolvers.put(Provider.class, ProviderBinding::of);
-        propertyTypeResolvers.put(Boolean.class, Boolean::parseBoolean);
-        propertyTypeResolvers.put(Integer.class, Integer::parseInt);
-        propertyTypeResolvers.put(Double.class, Double::parseDouble);
+        bindingResolvers.put(Pooled.class, PooledBinding::of);
     }
 
     public <T extends Binding<?>> void addBindingResolver(Class<T> bindingClass, Function<ObjectProvider<?>, T> bindingResolver) {
         bindingResolvers.put(bindingClass, bindingResolver);
     }
 
+    /**
+     * Sets whether dependencies on {@link LazySingletonObjectProvider lazy singletons} not created yet are compiled into
+     * proxies when the parameter is a public interface, so that creating the dependant does not create the dependency
+     * as well. Applies to parameters compiled from now on.
+     *
+     * @param lazyProxies {@code true} to inject proxies of lazy singletons, {@code false} to create them on injection
+     */
+    public void setLazyProxies(boolean lazyProxies) {
+        this.lazyProxies = lazyProxies;
+    }
+
     public Object resolve(ResolvableParameter<?> parameter) {
         Objects.requireNonNull(parameter);
-        if (parameter.isAnnotationPresent(Property.class)) {
+        final ParameterMetadata metadata = parameter.getMetadata();
+        if (metadata.property() != null) {
             return resolveProperty(parameter);
-        } else if (Collection.class.isAssignableFrom(parameter.getActualType()) && parameter.isAnnotationPresent(Introspect.class)) {
+        } else if (Collection.class.isAssignableFrom(parameter.getActualType()) && metadata.introspect()) {
             return resolveCollection(parameter);
-        } else if (parameter.getActualType().isArray() && parameter.isAnnotationPresent(Introspect.class)) {
+        } else if (parameter.getActualType().isArray() && metadata.introspect()) {
             return resolveArrayType(parameter);
         } else if (Binding.class.isAssignableFrom(parameter.getActualType())) {
             return resolveParameterizedType(parameter);
@@ -54,24 +64,43 @@ public class ParameterResolver {
         }
     }
 
-    @SuppressWarnings("SuspiciousSystemArraycopy")
+    /**
+     * Compiles the parameter into a {@link ResolutionPlan}. Properties and introspected collections or arrays are
+     * resolved right away and kept as constants, arrays being copied on every run. Singleton dependencies are captured
+     * as well, while prototype and lazy singleton dependencies and bindings are bound to the provider found now, so later
+     * runs only ask the provider for an instance or wrap it in a new binding, unless lazy singletons are proxied, see
+     * {@link #setLazyProxies(boolean)}. When no provider can be found yet the plan
+     * falls back to a full resolution on every run, so it picks up providers registered later on.
+     *
+     * @param parameter the parameter to compile
+     * @return the plan to run whenever a value for the parameter is needed.
+     */
+    public ResolutionPlan compile(ResolvableParameter<?> parameter) {
+        Objects.requireNonNull(parameter);
+        final ParameterMetadata metadata = parameter.getMetadata();
+        if (metadata.property() != null) {
+            final Object value = resolveProperty(parameter);
+            return value != null && value.getClass().isArray() ? () -> Types.copyOfArray(value) : () -> value;
+        } else if (Collection.class.isAssignableFrom(parameter.getActualType()) && metadata.introspect()) {
+            final Collection<Object> snapshot = resolveCollection(parameter);
+            return () -> snapshot;
+        } else if (parameter.getActualType().isArray() && metadata.introspect()) {
+            final Object[] snapshot = resolveArrayType(parameter);
+            return snapshot::clone;
+        } else if (Binding.class.isAssignableFrom(parameter.getActualType())) {
+            return compileParameterizedType(parameter);
+        } else {
+            return compileObject(parameter);
+        }
+    }
+
     private Object resolveProperty(ResolvableParameter<?> parameter) {
-        Property property = parameter.getAnnotation(Property.class);
+        Property property = parameter.getMetadata().property();
         String propertyValue = registry.getProperty(property.value(), "");
 
-        if (parameter.getActualType().equals(String.class)) {
-            return propertyValue;
-        } else if (propertyTypeResolvers.containsKey(parameter.getActualType())) {
-            return propertyTypeResolvers.get(parameter.getActualType()).apply(propertyValue);
-        } else if (parameter.getActualType().equals(String[].class)) {
-            return propertyValue.split(property.arraySeparator());
-        } else if (parameter.getActualType().isArray() && propertyTypeResolvers.containsKey(parameter.getActualType().getComponentType())) {
-            Object[] values = Arrays.stream(propertyValue.split(property.arraySeparator()))
-                    .map(s -> propertyTypeResolvers.get(parameter.getActualType().getComponentType()).apply(s))
-                    .toArray();
-            Object typedArray = Array.newInstance(parameter.getActualType().getComponentType(), values.length);
-            System.arraycopy(values, 0, typedArray, 0, values.length);
-            return typedArray;
+        final Function<String, ?> converter = PropertyConverters.converterFor(parameter.getActualType(), property.arraySeparator());
+        if (converter != null) {
+            return converter.apply(propertyValue);
         }
         logger.error("Cannot resolve property as {}.", parameter.getActualType());
         throw ProviderInitializationException.invalidPropertyType();
@@ -91,6 +120,46 @@ public class ParameterResolver {
         }
     }
 
+    private ResolutionPlan compileObject(ResolvableParameter<?> parameter) {
+        final String qualifier = parameter.getQualifier();
+        final ObjectProvider<?> provider = qualifier != null ? container.provider(qualifier) : container.provider(parameter.getActualType());
+
+        if (provider == null) {
+            if (Boolean.TRUE.equals(parameter.isRequired())) {
+                throw ProviderInitializationException.required(parameter.getActualType().getSimpleName());
+            }
+            return () -> resolveObject(parameter);
+        }
+        if (provider instanceof SingletonObjectProvider<?> singleton) {
+            final Object instance = singleton.singletonInstance();
+            return () -> instance;
+        }
+        if (provider instanceof LazySingletonObjectProvider<?> lazy && !lazy.isInitialized()
+                && lazyProxies && LazyProxies.canProxy(parameter.getActualType())) {
+            final Object proxy = LazyProxies.of(parameter.getActualType(), lazy);
+            return () -> proxy;
+        }
+        return provider::singletonInstance;
+    }
+
+    private ResolutionPlan compileParameterizedType(ResolvableParameter<?> parameter) {
+        final ParameterizedType type = parameter.getParameterizedType();
+        final Class<?> parameterizedClazz = (Class<?>) type.getActualTypeArguments()[0];
+        final String qualifier = parameter.getQualifier();
+        final ObjectProvider<?> provider = qualifier != null ? container.provider(qualifier) : container.provider(parameterizedClazz);
+        if (provider == null) {
+            if (Boolean.TRUE.equals(parameter.isRequired())) {
+                throw ProviderInitializationException.required(parameter.getActualType().getSimpleName());
+            }
+            return () -> resolveParameterizedType(parameter);
+        }
+        final Function<ObjectProvider<?>, ? extends Binding<?>> bindingResolver = bindingResolvers.get(type.getRawType());
+        if (bindingResolver == null) {
+            throw new ComponentCreationException(String.format("No known resolver for binding %s", type.getRawType()));
+        }
+        return () -> bindingResolver.apply(provider);
+    }
+
     private Object resolveParameterizedType(ResolvableParameter<?> parameter) {
         final ParameterizedType type = parameter.getParameterizedType();
         final Class<?> parameterizedClazz = (Class<?>) type.getActualTypeArguments()[0];
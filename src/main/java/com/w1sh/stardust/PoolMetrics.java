@@ -0,0 +1,14 @@
+package com.w1sh.stardust;
+
+/**
+ * A snapshot of the occupancy and activity of the pool of a {@link PooledObjectProvider}. Counters are read one at a
+ * time without stopping borrowers, so a snapshot taken while the pool is in use may be slightly inconsistent.
+ *
+ * @param maxSize   the maximum number of idle instances the pool keeps
+ * @param idle      the number of instances waiting in the pool
+ * @param borrowed  the number of instances borrowed and not returned yet
+ * @param created   the number of instances created for borrowers since the pool was created
+ * @param reused    the number of borrows served with an idle instance
+ * @param discarded the number of returned instances dropped, because they were invalid or the pool was full
+ */
+public record PoolMetrics(int maxSize, int idle, int borrowed, long created, long reused, long discarded) {}
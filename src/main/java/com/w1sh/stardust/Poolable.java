@@ -0,0 +1,16 @@
+package com.w1sh.stardust;
+
+/**
+ * Interface to be implemented by instances of {@link Scope#POOLED pooled} providers that need to be checked before
+ * going back into their pool.
+ */
+public interface Poolable {
+
+    /**
+     * Called when the instance is returned to its pool, to reset any state left by the borrower and tell whether the
+     * instance can be borrowed again.
+     *
+     * @return {@code true} if the instance can go back into the pool, {@code false} to drop it.
+     */
+    boolean validate();
+}
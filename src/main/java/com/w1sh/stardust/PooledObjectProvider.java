@@ -0,0 +1,212 @@
+package com.w1sh.stardust;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A provider lending instances out of a bounded pool, through {@link #borrow()} and {@link #release(Object)}.
+ * <br>
+ * The pool is a fixed array of slots claimed and filled with compare-and-set, so borrowing and returning never lock nor
+ * block. Each call starts scanning the slots at a random one, spreading concurrent callers over the pool. A borrow finding
+ * no idle instance creates a new one, and a returned instance finding no free slot, or failing
+ * {@link Poolable#validate() validation}, is dropped and handed to the discard callback. The pool therefore never keeps
+ * more than its maximum size of idle instances, while borrowers never wait for one. Lent instances are tracked by
+ * identity, so returning an instance twice, or one the pool never lent, fails instead of filling two slots with it.
+ * <br>
+ * {@link #singletonInstance()} and {@link #newInstance()} bypass the pool, for dependencies on the type itself rather
+ * than through a {@link com.w1sh.stardust.binding.Pooled} binding.
+ */
+public final class PooledObjectProvider<T> implements ObjectProvider<T> {
+
+    private final Supplier<T> supplier;
+    private final Consumer<T> discard;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private final Set<Lent> lent = ConcurrentHashMap.newKeySet();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T singleton;
+
+    public PooledObjectProvider(Supplier<T> supplier, int maxSize) {
+        this(supplier, maxSize, instance -> {});
+    }
+
+    /**
+     * @param supplier the supplier of new instances
+     * @param maxSize  the maximum number of idle instances kept
+     * @param discard  called with every instance dropped by the pool
+     */
+    public PooledObjectProvider(Supplier<T> supplier, int maxSize, Consumer<T> discard) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        this.supplier = Objects.requireNonNull(supplier);
+        this.discard = Objects.requireNonNull(discard);
+        this.slots = new AtomicReferenceArray<>(maxSize);
+    }
+
+    /**
+     * Takes an idle instance out of the pool, or creates a new one if none is idle.
+     *
+     * @return an instance only used by the caller until it is {@link #release(Object) released}.
+     */
+    public T borrow() {
+        borrowed.incrementAndGet();
+        if (idle.get() > 0) {
+            final int length = slots.length();
+            final int start = ThreadLocalRandom.current().nextInt(length);
+            for (int i = 0; i < length; i++) {
+                final int slot = (start + i) % length;
+                if (slots.get(slot) == null) continue;
+                final T instance = slots.getAndSet(slot, null);
+                if (instance != null) {
+                    idle.decrementAndGet();
+                    reused.increment();
+                    lent.add(new Lent(instance));
+                    return instance;
+                }
+            }
+        }
+        try {
+            final T instance = Objects.requireNonNull(supplier.get());
+            created.increment();
+            lent.add(new Lent(instance));
+            return instance;
+        } catch (RuntimeException e) {
+            borrowed.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed instance to the pool, unless it fails {@link Poolable#validate() validation} or the pool is
+     * full, in which case it is dropped.
+     *
+     * @param instance the instance given by {@link #borrow()}
+     * @throws IllegalStateException if the instance is not currently borrowed from this pool
+     */
+    public void release(T instance) {
+        giveBack(instance);
+        if (instance instanceof Poolable poolable && !poolable.validate()) {
+            drop(instance);
+            return;
+        }
+        final int length = slots.length();
+        if (idle.get() < length) {
+            final int start = ThreadLocalRandom.current().nextInt(length);
+            for (int i = 0; i < length; i++) {
+                final int slot = (start + i) % length;
+                if (slots.get(slot) == null && slots.compareAndSet(slot, null, instance)) {
+                    idle.incrementAndGet();
+                    return;
+                }
+            }
+        }
+        drop(instance);
+    }
+
+    /**
+     * Drops a borrowed instance instead of returning it to the pool, for instances left in an unusable state.
+     *
+     * @param instance the instance given by {@link #borrow()}
+     * @throws IllegalStateException if the instance is not currently borrowed from this pool
+     */
+    public void invalidate(T instance) {
+        giveBack(instance);
+        drop(instance);
+    }
+
+    private void giveBack(T instance) {
+        Objects.requireNonNull(instance);
+        if (!lent.remove(new Lent(instance))) {
+            throw new IllegalStateException(String.format("Instance of %s is not borrowed from this pool, it was either " +
+                    "already returned or never lent", instance.getClass().getName()));
+        }
+        borrowed.decrementAndGet();
+    }
+
+    private void drop(T instance) {
+        discarded.increment();
+        discard.accept(instance);
+    }
+
+    /**
+     * Returns the current occupancy and the activity of the pool so far.
+     */
+    public PoolMetrics metrics() {
+        return new PoolMetrics(slots.length(), idle.get(), borrowed.get(), created.sum(), reused.sum(), discarded.sum());
+    }
+
+    @Override
+    public T singletonInstance() {
+        T current = singleton;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            current = singleton;
+            if (current == null) {
+                current = Objects.requireNonNull(supplier.get());
+                singleton = current;
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T newInstance() {
+        return Objects.requireNonNull(supplier.get());
+    }
+
+    /**
+     * Returns the singleton instance, if it was created, followed by the instances idle in the pool. Borrowed instances
+     * are in use and left out.
+     */
+    @Override
+    public List<T> instances() {
+        final List<T> instances = new ArrayList<>(slots.length() + 1);
+        final T current = singleton;
+        if (current != null) {
+            instances.add(current);
+        }
+        for (int slot = 0; slot < slots.length(); slot++) {
+            final T instance = slots.get(slot);
+            if (instance != null) {
+                instances.add(instance);
+            }
+        }
+        return List.copyOf(instances);
+    }
+
+    /**
+     * Key of a lent instance, compared by identity so that instances overriding {@code equals} are told apart.
+     */
+    private record Lent(Object instance) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Lent other && other.instance == instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+}
@@ -3,34 +3,81 @@ package com.w1sh.stardust;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+/**
+ * A provider creating a new instance every time {@link #newInstance()} is called. The first instance generated, through
+ * either method, is the {@link #singletonInstance() singleton instance} and is kept by the provider itself, since later
+ * calls must keep returning it. Every later instance is handed to an {@link InstanceTracker}, which decides which of
+ * them {@link #instances()} returns, the default one holding them weakly.
+ */
 public final class PrototypeObjectProvider<T> implements ObjectProvider<T> {
 
     private final Supplier<T> supplier;
-    private final List<T> instances;
+    private final InstanceTracker<T> tracker;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T singleton;
 
     public PrototypeObjectProvider(Supplier<T> supplier) {
-        this.supplier = supplier;
-        this.instances = new ArrayList<>();
+        this(supplier, InstanceTracker.weak());
+    }
+
+    public PrototypeObjectProvider(Supplier<T> supplier, InstanceTracker<T> tracker) {
+        this.supplier = Objects.requireNonNull(supplier);
+        this.tracker = Objects.requireNonNull(tracker);
     }
 
     @Override
     public T singletonInstance() {
-        if (instances.isEmpty()) {
-            return newInstance();
-        } else return instances.get(0);
+        T current = singleton;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            current = singleton;
+            if (current == null) {
+                current = Objects.requireNonNull(supplier.get());
+                singleton = current;
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public T newInstance() {
         final T instance = Objects.requireNonNull(supplier.get());
-        instances.add(instance);
+        if (singleton == null) {
+            lock.lock();
+            try {
+                if (singleton == null) {
+                    singleton = instance;
+                    return instance;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        tracker.track(instance);
         return instance;
     }
 
+    /**
+     * Returns the first instance generated, if any, followed by the later instances kept by the tracker.
+     */
     @Override
     public List<T> instances() {
-        return instances;
+        final T current = singleton;
+        final List<T> tracked = tracker.instances();
+        if (current == null) {
+            return tracked;
+        }
+        final List<T> instances = new ArrayList<>(tracked.size() + 1);
+        instances.add(current);
+        instances.addAll(tracked);
+        return List.copyOf(instances);
     }
 }
@@ -1,11 +1,51 @@
 package com.w1sh.stardust;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public interface ProviderContainer {
 
     void register(Class<?> clazz);
 
+    /**
+     * Registers all the given classes, along with the {@link com.w1sh.stardust.annotation.Provide} methods of those
+     * that are modules, each one only after everything it depends on.
+     *
+     * @param classes the classes to register
+     * @throws com.w1sh.stardust.exception.ProviderRegistrationException if the classes depend on each other in a cycle
+     * @see DependencyGraph
+     */
+    void registerAll(Collection<Class<?>> classes);
+
+    /**
+     * Registers all the given classes like {@link #registerAll(Collection)}, creating providers that do not depend on
+     * each other concurrently on the given executor, while still registering them in the same order.
+     *
+     * @param classes  the classes to register
+     * @param executor the executor to create the providers on
+     * @throws com.w1sh.stardust.exception.ComponentCreationException if any provider fails to be created
+     */
+    void registerAll(Collection<Class<?>> classes, Executor executor);
+
+    /**
+     * Registers every node of the given graph like {@link #registerAll(Collection)}, without building the graph again.
+     * The graph is expected to name its providers with the naming strategy of this container.
+     *
+     * @param graph the graph of the classes to register
+     * @see DependencyGraph#subgraph(Collection)
+     */
+    void registerAll(DependencyGraph graph);
+
+    /**
+     * Registers every node of the given graph like {@link #registerAll(Collection, Executor)}, without building the
+     * graph again.
+     *
+     * @param graph    the graph of the classes to register
+     * @param executor the executor to create the providers on
+     */
+    void registerAll(DependencyGraph graph, Executor executor);
+
     <T> T instance(Class<T> clazz);
 
     <T> T instance(String name);
@@ -22,7 +62,15 @@ public interface ProviderContainer {
 
     <T> List<ObjectProvider<T>> providers(Class<T> clazz);
 
+    <T> ProviderHandle<T> handle(Class<T> clazz);
+
+    <T> ProviderHandle<T> handle(String name);
+
     <T> boolean contains(Class<T> clazz);
 
     boolean contains(String name);
+
+    void freeze();
+
+    boolean isFrozen();
 }
@@ -0,0 +1,84 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.exception.ProviderInitializationException;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A reference to a provider registered in a {@link ProviderContainer}, obtained through
+ * {@link ProviderContainer#handle(Class)} or {@link ProviderContainer#handle(String)}.
+ * <br>
+ * The provider is looked up the first time the handle is used and kept along with the {@link ProviderStore#generation()
+ * generation} of the store it was found in. Repeated calls to {@link #get()} or {@link #newInstance()} go straight to the
+ * provider without searching the container again, for as long as the generation stays the same. Registering, overriding
+ * or clearing providers changes it, after which the handle looks the provider up again, so that it never hands out a
+ * replaced or removed provider. Once the container is frozen, the provider is only looked up once.
+ *
+ * @param <T> the type of the instances supplied by the provider
+ */
+public final class ProviderHandle<T> {
+
+    private final String target;
+    private final Supplier<ObjectProvider<T>> lookup;
+    private final LongSupplier generation;
+    private volatile Binding<T> binding;
+
+    ProviderHandle(String target, Supplier<ObjectProvider<T>> lookup, LongSupplier generation) {
+        this.target = target;
+        this.lookup = lookup;
+        this.generation = generation;
+    }
+
+    /**
+     * Provides the singleton instance of the underlying provider.
+     *
+     * @return the instance given by {@link ObjectProvider#singletonInstance()}.
+     */
+    public T get() {
+        return provider().singletonInstance();
+    }
+
+    /**
+     * Provides a new instance from the underlying provider.
+     *
+     * @return the instance given by {@link ObjectProvider#newInstance()}.
+     */
+    public T newInstance() {
+        return provider().newInstance();
+    }
+
+    /**
+     * Returns the provider this handle is bound to, looking it up if the handle has not been used yet or the providers
+     * of the container changed since.
+     *
+     * @return the bound {@link ObjectProvider}.
+     * @throws ProviderInitializationException if no provider can be found for the handle target
+     */
+    public ObjectProvider<T> provider() {
+        final long current = generation.getAsLong();
+        final Binding<T> bound = binding;
+        if (bound != null && bound.generation() == current) {
+            return bound.provider();
+        }
+        final ObjectProvider<T> resolved = lookup.get();
+        if (resolved == null) {
+            throw ProviderInitializationException.unresolvedHandle(target);
+        }
+        binding = new Binding<>(resolved, current);
+        return resolved;
+    }
+
+    /**
+     * Returns whether this handle is bound to a provider that is still current.
+     *
+     * @return <tt>true</tt> if the provider has been looked up since the providers last changed, or <tt>false</tt>
+     * otherwise.
+     */
+    public boolean isResolved() {
+        final Binding<T> bound = binding;
+        return bound != null && bound.generation() == generation.getAsLong();
+    }
+
+    private record Binding<T>(ObjectProvider<T> provider, long generation) {}
+}
@@ -1,5 +1,6 @@
 package com.w1sh.stardust;
 
+import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Set;
 
@@ -11,8 +12,29 @@ public interface ProviderStore {
 
     <T> List<ObjectProvider<T>> get(Class<T> clazz);
 
+    /**
+     * Returns the {@link ObjectProvider} elements assignable to the given class whose class is annotated with
+     * {@link com.w1sh.stardust.annotation.Primary}. The candidates are computed when providers are registered.
+     *
+     * @param <T>   the type of the class
+     * @param clazz the class to get the primary candidates of
+     * @return a list containing the only primary candidate, or an empty list.
+     * @throws com.w1sh.stardust.exception.ProviderCandidatesException if several primary candidates were registered,
+     *                                                                 making the primary of the class ambiguous
+     */
+    <T> List<ObjectProvider<T>> getPrimary(Class<T> clazz);
+
     Set<Class<?>> getAllClasses();
 
+    /**
+     * Returns all the registered classes annotated with the given annotation type, either directly, through inheritance
+     * or through a meta-annotation. The classes are indexed when providers are registered.
+     *
+     * @param annotationType the annotation type to look for
+     * @return an immutable list with the annotated classes in registration order, or an empty list.
+     */
+    List<Class<?>> getAllAnnotatedWith(Class<? extends Annotation> annotationType);
+
     /**
      * Returns all the {@link ObjectProvider} elements registered in this store.
      *
@@ -32,4 +54,25 @@ public interface ProviderStore {
      * Deletes all the elements from this store
      */
     void clear();
+
+    /**
+     * Seals this store, compiling all the registered elements into an immutable snapshot. Once frozen, lookups are
+     * served from the snapshot without taking any locks and any further registration is rejected.
+     */
+    void freeze();
+
+    /**
+     * Returns whether this store has been {@link #freeze() frozen}.
+     *
+     * @return <tt>true</tt> if the store is frozen, or <tt>false</tt> otherwise.
+     */
+    boolean isFrozen();
+
+    /**
+     * Returns a counter that changes every time a provider is registered or the store is cleared, so that callers keeping
+     * a provider they looked up can tell when it may have been replaced or removed.
+     *
+     * @return the current generation of this store.
+     */
+    long generation();
 }
@@ -1,21 +1,40 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.annotation.Primary;
+import com.w1sh.stardust.exception.ProviderCandidatesException;
 import com.w1sh.stardust.exception.ProviderRegistrationException;
+import com.w1sh.stardust.util.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * The default {@link ProviderStore}. Registrations are serialized through a {@link ReentrantLock}, while lookups by name,
+ * type, primary type or annotation read concurrent or immutable tables without locking, so that lookups never hold a
+ * monitor and never pin the carrier of a virtual thread. Only listing every provider before the store is frozen takes
+ * the lock, to read the registration order.
+ */
 public class ProviderStoreImpl implements ProviderStore {
 
     private static final Logger logger = LoggerFactory.getLogger(ProviderStoreImpl.class);
 
-    private final Map<Key, ObjectProvider<?>> providers = synchronizedMap(new LinkedHashMap<>(256));
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> providers = new LinkedHashMap<>(256);
+    private final Map<String, Entry> names = new ConcurrentHashMap<>(256);
+    private final Map<Class<?>, List<ObjectProvider<?>>> types = new ConcurrentHashMap<>(256);
+    private final Map<Class<?>, List<ObjectProvider<?>>> primaries = new ConcurrentHashMap<>(16);
+    private final Map<Class<? extends Annotation>, List<Class<?>>> annotations = new ConcurrentHashMap<>(32);
 
+    private volatile Snapshot snapshot;
+    private volatile long generation;
     private boolean allowOverride = true;
     private boolean ignoreOverride = false;
 
@@ -25,61 +44,175 @@ public class ProviderStoreImpl implements ProviderStore {
         requireNonNull(clazz, "Cannot register provider with null class");
         requireNonNull(provider, "Cannot register provider with null provider");
 
-        if (providers.containsKey(new Key(name, null))) {
-            if (!allowOverride) {
-                throw ProviderRegistrationException.notAllowedName(name);
+        lock.lock();
+        try {
+            if (snapshot != null) {
+                throw ProviderRegistrationException.frozen(name);
             }
-            if (!ignoreOverride) {
-                logger.warn("Provider with name {} already present, value will be overridden", name);
-                logger.warn("If you would like the framework to fail on these kind of scenarios, set the property \"stardust.providers.allow-override\" to false");
-                logger.warn("If you would like to ignore warnings on these kind of scenarios, set the property \"stardust.providers.ignore-override\" to true");
+            final Entry previous = providers.get(name);
+            if (previous != null) {
+                if (!allowOverride) {
+                    throw ProviderRegistrationException.notAllowedName(name);
+                }
+                if (!ignoreOverride) {
+                    logger.warn("Provider with name {} already present, value will be overridden", name);
+                    logger.warn("If you would like the framework to fail on these kind of scenarios, set the property \"stardust.providers.allow-override\" to false");
+                    logger.warn("If you would like to ignore warnings on these kind of scenarios, set the property \"stardust.providers.ignore-override\" to true");
+                }
             }
+            final Entry entry = new Entry(clazz, provider);
+            providers.put(name, entry);
+            names.put(name, entry);
+            if (previous == null) {
+                index(entry);
+            } else {
+                final Set<Class<?>> affectedTypes = new HashSet<>(previous.types());
+                affectedTypes.addAll(entry.types());
+                final Set<Class<? extends Annotation>> affectedAnnotations = new HashSet<>(previous.annotations());
+                affectedAnnotations.addAll(entry.annotations());
+                reindex(affectedTypes, affectedAnnotations);
+            }
+            if (entry.primary()) {
+                warnIfAmbiguous(clazz, conflictingPrimaries(clazz, providers.values().stream()
+                        .filter(other -> other != entry && other.primary())
+                        .map(Entry::clazz)));
+            }
+            generation++;
+        } finally {
+            lock.unlock();
         }
-        providers.put(new Key(name, clazz), provider);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> ObjectProvider<T> get(String name) {
         requireNonNull(name, "Cannot get provider with null name");
-        return (ObjectProvider<T>) providers.get(new Key(name, null));
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return (ObjectProvider<T>) frozen.names().get(name);
+        }
+        final Entry entry = names.get(name);
+        return entry != null ? (ObjectProvider<T>) entry.provider() : null;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public <T> List<ObjectProvider<T>> get(Class<T> clazz) {
         requireNonNull(clazz, "Cannot get provider with null class");
-        List<ObjectProvider<T>> list = new ArrayList<>();
-        for (Map.Entry<Key, ObjectProvider<?>> entry : providers.entrySet()) {
-            if (clazz.isAssignableFrom(entry.getKey().clazz)) {
-                ObjectProvider<?> value = providers.get(entry.getKey());
-                list.add((ObjectProvider<T>) value);
-            }
+        if (Object.class.equals(clazz)) {
+            return (List) getAll();
+        }
+        final Snapshot frozen = snapshot;
+        final Map<Class<?>, List<ObjectProvider<?>>> table = frozen != null ? frozen.types() : types;
+        return (List) table.getOrDefault(clazz, List.of());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> List<ObjectProvider<T>> getPrimary(Class<T> clazz) {
+        requireNonNull(clazz, "Cannot get primary provider with null class");
+        final Snapshot frozen = snapshot;
+        final Map<Class<?>, List<ObjectProvider<?>>> table = frozen != null ? frozen.primaries() : primaries;
+        final List<ObjectProvider<?>> candidates = table.getOrDefault(clazz, List.of());
+        if (candidates.size() > 1) {
+            throw new ProviderCandidatesException(candidates.size(), clazz);
         }
-        return list;
+        return (List) candidates;
     }
 
     @Override
     public Set<Class<?>> getAllClasses() {
-        return providers.keySet().stream()
-                .map(Key::clazz)
-                .collect(Collectors.toSet());
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return frozen.classes();
+        }
+        lock.lock();
+        try {
+            return providers.values().stream()
+                    .map(Entry::clazz)
+                    .collect(Collectors.toSet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Class<?>> getAllAnnotatedWith(Class<? extends Annotation> annotationType) {
+        requireNonNull(annotationType, "Cannot get classes with null annotation type");
+        final Snapshot frozen = snapshot;
+        final Map<Class<? extends Annotation>, List<Class<?>>> table = frozen != null ? frozen.annotations() : annotations;
+        return table.getOrDefault(annotationType, List.of());
     }
 
     @Override
     public List<ObjectProvider<?>> getAll() {
-        return providers.values().stream().toList();
+        final Snapshot frozen = snapshot;
+        if (frozen != null) {
+            return frozen.providers();
+        }
+        lock.lock();
+        try {
+            return providers.values().stream()
+                    .<ObjectProvider<?>>map(Entry::provider)
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public Integer count() {
-        return providers.size();
+        final Snapshot frozen = snapshot;
+        return frozen != null ? frozen.providers().size() : names.size();
     }
 
     @Override
     public void clear() {
-        logger.debug("Clearing all {} providers from store", providers.size());
-        providers.clear();
+        lock.lock();
+        try {
+            logger.debug("Clearing all {} providers from store", providers.size());
+            providers.clear();
+            names.clear();
+            types.clear();
+            primaries.clear();
+            annotations.clear();
+            snapshot = null;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void freeze() {
+        lock.lock();
+        try {
+            if (snapshot != null) return;
+            final Map<String, ObjectProvider<?>> names = new HashMap<>(providers.size());
+            final Set<Class<?>> classes = new HashSet<>(providers.size());
+            final ObjectProvider<?>[] all = new ObjectProvider<?>[providers.size()];
+            int i = 0;
+            for (Map.Entry<String, Entry> entry : providers.entrySet()) {
+                names.put(entry.getKey(), entry.getValue().provider());
+                classes.add(entry.getValue().clazz());
+                all[i++] = entry.getValue().provider();
+            }
+            snapshot = new Snapshot(Map.copyOf(names), Map.copyOf(types), Map.copyOf(primaries),
+                    Map.copyOf(annotations), List.of(all), Set.copyOf(classes));
+            logger.debug("Froze store with {} providers indexed under {} types", all.length, types.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
+    @Override
+    public long generation() {
+        return generation;
     }
 
     public void setAllowOverride(boolean allowOverride) {
@@ -90,18 +223,130 @@ public class ProviderStoreImpl implements ProviderStore {
         this.ignoreOverride = ignoreOverride;
     }
 
-    private record Key(String name, Class<?> clazz) {
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Key key = (Key) o;
-            return Objects.equals(name, key.name);
+    /**
+     * Appends the provider to the lookup list of every type its class can be assigned to, and to the primary
+     * candidates of those types if the class is annotated with {@link Primary}. The class itself is appended to the
+     * list of every annotation present on it, meta-annotations included. Lists are replaced instead of mutated
+     * so readers always get an immutable snapshot without holding the lock. {@link Object} is left out as every
+     * provider would land in it, lookups for it are served from {@link #getAll()} instead.
+     */
+    private void index(Entry entry) {
+        for (Class<?> type : entry.types()) {
+            if (Object.class.equals(type)) continue;
+            append(types, type, entry.provider());
+            if (entry.primary()) {
+                append(primaries, type, entry.provider());
+            }
+        }
+        for (Class<? extends Annotation> annotationType : entry.annotations()) {
+            annotations.compute(annotationType, (key, current) -> {
+                if (current == null) return List.of(entry.clazz());
+                if (current.contains(entry.clazz())) return current;
+                final List<Class<?>> list = new ArrayList<>(current.size() + 1);
+                list.addAll(current);
+                list.add(entry.clazz());
+                return List.copyOf(list);
+            });
+        }
+    }
+
+    private static List<ObjectProvider<?>> append(Map<Class<?>, List<ObjectProvider<?>>> table, Class<?> type,
+                                                  ObjectProvider<?> provider) {
+        return table.compute(type, (key, current) -> {
+            if (current == null) return List.of(provider);
+            final List<ObjectProvider<?>> list = new ArrayList<>(current.size() + 1);
+            list.addAll(current);
+            list.add(provider);
+            return List.copyOf(list);
+        });
+    }
+
+    /**
+     * Rebuilds the lookup lists of the given types and annotations from the registered providers, keeping registration
+     * order. Only needed when a provider is overridden, as the replacement keeps the position of the provider it replaces.
+     */
+    private void reindex(Set<Class<?>> affectedTypes, Set<Class<? extends Annotation>> affectedAnnotations) {
+        for (Class<?> type : affectedTypes) {
+            if (Object.class.equals(type)) continue;
+            rebuild(types, type, providers.values().stream()
+                    .filter(entry -> type.isAssignableFrom(entry.clazz())));
+            rebuild(primaries, type, providers.values().stream()
+                    .filter(Entry::primary)
+                    .filter(entry -> type.isAssignableFrom(entry.clazz())));
+        }
+        for (Class<? extends Annotation> annotationType : affectedAnnotations) {
+            final List<Class<?>> list = providers.values().stream()
+                    .filter(entry -> entry.annotations().contains(annotationType))
+                    .<Class<?>>map(Entry::clazz)
+                    .distinct()
+                    .toList();
+            if (list.isEmpty()) {
+                annotations.remove(annotationType);
+            } else {
+                annotations.put(annotationType, list);
+            }
+        }
+    }
+
+    private static void warnIfAmbiguous(Class<?> clazz, List<Class<?>> conflicting) {
+        if (!conflicting.isEmpty()) {
+            logger.warn("Primary class {} shares a type with primary classes {}, primary lookups for the types they share will fail",
+                    clazz.getSimpleName(), conflicting.stream().map(Class::getSimpleName).toList());
+        }
+    }
+
+    /**
+     * Returns the primary classes, among the given ones, sharing a type with the given class, being a type one of them
+     * declares directly, either itself, its superclass or one of its interfaces. Types further up, such as
+     * {@link java.io.Serializable}, are left out as primaries are rarely looked up by them.
+     *
+     * @param clazz     the primary class being registered
+     * @param primaries the classes of the other primary providers
+     * @return the conflicting classes, in the order given.
+     */
+    static List<Class<?>> conflictingPrimaries(Class<?> clazz, Stream<Class<?>> primaries) {
+        return primaries
+                .filter(other -> declaresTypeOf(clazz, other) || declaresTypeOf(other, clazz))
+                .toList();
+    }
+
+    private static boolean declaresTypeOf(Class<?> declaring, Class<?> clazz) {
+        if (declaring.isAssignableFrom(clazz)) return true;
+        final Class<?> superclass = declaring.getSuperclass();
+        if (superclass != null && !Object.class.equals(superclass) && superclass.isAssignableFrom(clazz)) return true;
+        for (Class<?> anInterface : declaring.getInterfaces()) {
+            if (anInterface.isAssignableFrom(clazz)) return true;
+        }
+        return false;
+    }
+
+    private static void rebuild(Map<Class<?>, List<ObjectProvider<?>>> table, Class<?> type, Stream<Entry> entries) {
+        final List<ObjectProvider<?>> list = entries.<ObjectProvider<?>>map(Entry::provider).toList();
+        if (list.isEmpty()) {
+            table.remove(type);
+        } else {
+            table.put(type, list);
+        }
+    }
+
+    /**
+     * Immutable view of the store taken when it is frozen. Published through a volatile field, so once a reader
+     * sees it every table inside it is safe to read without synchronization.
+     */
+    private record Snapshot(Map<String, ObjectProvider<?>> names, Map<Class<?>, List<ObjectProvider<?>>> types,
+                            Map<Class<?>, List<ObjectProvider<?>>> primaries,
+                            Map<Class<? extends Annotation>, List<Class<?>>> annotations,
+                            List<ObjectProvider<?>> providers, Set<Class<?>> classes) {}
+
+    private record Entry(Class<?> clazz, ObjectProvider<?> provider, Set<Class<?>> types,
+                         Set<Class<? extends Annotation>> annotations) {
+
+        private Entry(Class<?> clazz, ObjectProvider<?> provider) {
+            this(clazz, provider, Types.getAssignableTypes(clazz), Types.getAnnotationTypes(clazz));
         }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(name);
+        private boolean primary() {
+            return annotations.contains(Primary.class);
         }
     }
 }
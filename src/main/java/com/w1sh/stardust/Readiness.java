@@ -0,0 +1,191 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.exception.ComponentCreationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the initializers running in the background of a container, such as the post-construct methods run by the
+ * {@link AsyncPostConstructInterceptor}, each on its own virtual thread.
+ * <br>
+ * Initializers only run in the background for singletons created before the container is opened, see
+ * {@link #defersInitialization()}. The container becomes ready once it is {@link #open() opened}, which it is when
+ * frozen, and every initializer started until then has finished. A failing initializer fails readiness for good.
+ */
+public final class Readiness implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Readiness.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Identity, CompletableFuture<Void>> initializations = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private final ThreadLocal<Boolean> deferrable = new ThreadLocal<>();
+    private volatile boolean open;
+
+    /**
+     * Runs the post-construct interceptors of an instance, letting them defer its initialization only when it is a
+     * singleton created before the container is opened. Prototypes and pooled instances are used as soon as they are
+     * handed out, and instances created afterwards have no startup left to overlap with, so they are initialized inline.
+     *
+     * @param singleton    whether the instance is a singleton
+     * @param interceptors the post-construct interceptors to run on the instance
+     */
+    void intercept(boolean singleton, Runnable interceptors) {
+        final Boolean previous = deferrable.get();
+        deferrable.set(singleton && !open);
+        try {
+            interceptors.run();
+        } finally {
+            if (previous != null) {
+                deferrable.set(previous);
+            } else {
+                deferrable.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the instance whose post-construct interceptors are running on this thread may be initialized in
+     * the background, see {@link #intercept(boolean, Runnable)}.
+     */
+    boolean defersInitialization() {
+        return Boolean.TRUE.equals(deferrable.get());
+    }
+
+    /**
+     * Runs the initializer of the instance on a virtual thread. Successful initializations are forgotten as soon as they
+     * finish, failed ones are kept so that waiting on the instance keeps failing.
+     *
+     * @param instance    the instance being initialized
+     * @param initializer the initialization of the instance
+     * @return the initialization, completing once the initializer has run.
+     */
+    CompletableFuture<Void> initialize(Object instance, Runnable initializer) {
+        final Identity identity = new Identity(instance);
+        final CompletableFuture<Void> initialization = new CompletableFuture<>();
+        initializations.put(identity, initialization);
+        return submit(initialization, initializer, failure -> {
+            if (failure == null) {
+                initializations.remove(identity);
+            } else {
+                logger.error("Failed to initialize instance of {}", instance.getClass().getName(), failure);
+                ready.completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * Runs work on a virtual thread that readiness waits for, such as the warm-up phase, without it being tied to an
+     * instance. Unlike initializers, the work failing does not fail readiness.
+     *
+     * @param task the work to run
+     * @return a future completing once the work has run.
+     */
+    CompletableFuture<Void> run(Runnable task) {
+        return submit(new CompletableFuture<>(), task, failure -> {
+            if (failure != null) {
+                logger.error("Background work failed", failure);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> submit(CompletableFuture<Void> completion, Runnable task, Consumer<Throwable> done) {
+        pending.incrementAndGet();
+        completion.whenComplete((result, failure) -> {
+            done.accept(failure);
+            if (pending.decrementAndGet() == 0 && open) {
+                ready.complete(null);
+            }
+        });
+        executor.execute(() -> {
+            try {
+                task.run();
+                completion.complete(null);
+            } catch (Throwable e) {
+                completion.completeExceptionally(e);
+            }
+        });
+        return completion;
+    }
+
+    /**
+     * Marks the end of startup, the container being ready as soon as the initializers started so far have finished.
+     */
+    public void open() {
+        open = true;
+        if (pending.get() == 0) {
+            ready.complete(null);
+        }
+    }
+
+    /**
+     * Returns whether the container was opened and every initializer started before that finished successfully.
+     */
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    /**
+     * Returns a future completing once the container is ready, or exceptionally with the failure of the first
+     * initializer that failed.
+     *
+     * @return a new future, completing it has no effect on readiness.
+     */
+    public CompletableFuture<Void> whenReady() {
+        return ready.copy();
+    }
+
+    /**
+     * Blocks until the initializer of the given instance, if any, has finished, for dependents that need the instance
+     * fully initialized. Returns immediately for instances initialized inline or already initialized.
+     *
+     * @param instance the instance to wait for
+     * @return the given instance, once initialized.
+     * @throws ComponentCreationException if the initializer of the instance failed with a checked exception, unchecked
+     *                                    ones being rethrown as they are
+     */
+    public <T> T awaitInitialized(T instance) {
+        final CompletableFuture<Void> initialization = initializations.get(new Identity(instance));
+        if (initialization != null) {
+            try {
+                initialization.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw new ComponentCreationException(String.format("Failed to initialize instance of %s",
+                        instance.getClass().getName()), e.getCause());
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the virtual threads of the initializers still running.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private record Identity(Object instance) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity other && other.instance == instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+}
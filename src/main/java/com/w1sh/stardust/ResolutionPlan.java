@@ -0,0 +1,17 @@
+package com.w1sh.stardust;
+
+/**
+ * A parameter compiled by {@link ParameterResolver#compile(ResolvableParameter)} into the cheapest way of producing its
+ * value. Plans are built once per parameter and then run every time the owning executable is invoked, so repeated
+ * instantiation skips the annotation checks and provider lookups done by {@link ParameterResolver#resolve(ResolvableParameter)}.
+ */
+@FunctionalInterface
+public interface ResolutionPlan {
+
+    /**
+     * Produces the value to pass for the compiled parameter.
+     *
+     * @return the resolved value, which may be {@code null} for optional dependencies.
+     */
+    Object resolve();
+}
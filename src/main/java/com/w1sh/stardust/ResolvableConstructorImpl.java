@@ -1,5 +1,6 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.annotation.Pool;
 import com.w1sh.stardust.annotation.Primary;
 import com.w1sh.stardust.annotation.Profile;
 import com.w1sh.stardust.annotation.Provide;
@@ -9,6 +10,9 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Priority;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
@@ -18,11 +22,52 @@ public class ResolvableConstructorImpl<S> implements ResolvableExecutable<S> {
 
     private static final Logger logger = LoggerFactory.getLogger(ResolvableConstructorImpl.class);
 
+    /**
+     * Annotations of each class, merged with the annotations present on those annotations so meta-annotations such as the
+     * {@link Provide} on {@code @Module} can be found with a single lookup. Direct annotations take precedence.
+     */
+    private static final ClassValue<Map<Class<? extends Annotation>, Annotation>> ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, Annotation> computeValue(Class<?> type) {
+            final Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<>();
+            for (Annotation annotation : type.getAnnotations()) {
+                annotations.put(annotation.annotationType(), annotation);
+            }
+            for (Annotation declaredAnnotation : type.getDeclaredAnnotations()) {
+                for (Annotation nestedAnnotation : declaredAnnotation.annotationType().getAnnotations()) {
+                    annotations.putIfAbsent(nestedAnnotation.annotationType(), nestedAnnotation);
+                }
+            }
+            return Map.copyOf(annotations);
+        }
+    };
+
+    private static final ClassValue<ExecutableMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ExecutableMetadata computeValue(Class<?> type) {
+            final Map<Class<? extends Annotation>, Annotation> annotations = ANNOTATIONS.get(type);
+            final Provide provide = (Provide) annotations.get(Provide.class);
+            final Priority priority = (Priority) annotations.get(Priority.class);
+            final Profile profile = (Profile) annotations.get(Profile.class);
+            final Pool pool = (Pool) annotations.get(Pool.class);
+            return new ExecutableMetadata(
+                    (provide != null && !provide.value().isBlank()) ? provide.value() : null,
+                    provide != null ? provide.scope() : Scope.SINGLETON,
+                    priority != null ? priority.value() : 0,
+                    priority != null,
+                    (profile != null && profile.value() != null) ? Set.of(profile.value()) : Set.of(),
+                    type.isAnnotationPresent(Primary.class),
+                    pool != null ? pool.maxSize() : 0);
+        }
+    };
+
     private final Constructor<?> constructor;
+    private final MethodHandle invoker;
     private final List<ResolvableParameter<?>> parameters;
 
     public ResolvableConstructorImpl(Constructor<?> constructor) {
         this.constructor = constructor;
+        this.invoker = compile(constructor);
         List<ResolvableParameter<?>> set = new ArrayList<>();
         Parameter[] methodParameters = constructor.getParameters();
         for (Parameter parameter : methodParameters) {
@@ -40,13 +85,7 @@ public class ResolvableConstructorImpl<S> implements ResolvableExecutable<S> {
 
     @Override
     public <T extends Annotation> T getAnnotation(Class<T> annotationType) {
-        T annotation = getActualType().getAnnotation(annotationType);
-        if (annotation != null) return annotation;
-        for (Annotation declaredAnnotation : getActualType().getDeclaredAnnotations()) {
-            T nestedAnnotation = declaredAnnotation.annotationType().getAnnotation(annotationType);
-            if (nestedAnnotation != null) return nestedAnnotation;
-        }
-        return null;
+        return annotationType.cast(ANNOTATIONS.get(getActualType()).get(annotationType));
     }
 
     @Override
@@ -61,31 +100,32 @@ public class ResolvableConstructorImpl<S> implements ResolvableExecutable<S> {
 
     @Override
     public Integer getPriority() {
-        Priority annotation = getAnnotation(Priority.class);
-        return annotation != null ? annotation.value() : 0;
+        return getMetadata().priority();
     }
 
     @Override
     public Set<String> getActiveProfiles() {
-        Profile annotation = getAnnotation(Profile.class);
-        return (annotation != null && annotation.value() != null) ? Set.of(annotation.value()) : Set.of();
+        return getMetadata().activeProfiles();
     }
 
     @Override
     public Boolean isPrimary() {
-        return isAnnotationPresent(Primary.class);
+        return getMetadata().primary();
     }
 
     @Override
     public Scope getScope() {
-        Provide annotation = getAnnotation(Provide.class);
-        return annotation != null ? annotation.scope() : Scope.SINGLETON;
+        return getMetadata().scope();
     }
 
     @Override
     public String getName() {
-        Provide annotation = getAnnotation(Provide.class);
-        return (annotation != null && !annotation.value().isBlank()) ? annotation.value() : null;
+        return getMetadata().name();
+    }
+
+    @Override
+    public ExecutableMetadata getMetadata() {
+        return METADATA.get(getActualType());
     }
 
     @Override
@@ -95,11 +135,42 @@ public class ResolvableConstructorImpl<S> implements ResolvableExecutable<S> {
 
     @Override
     public Object resolve(Object[] args) {
+        logger.debug("Creating new instance of class {}", constructor.getDeclaringClass().getSimpleName());
+        if (invoker == null) {
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof Error error) throw error;
+                throw ProviderInitializationException.instantiation(e.getCause());
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw ProviderInitializationException.instantiation(e);
+            }
+        }
+        try {
+            return (Object) invoker.invokeExact(args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ProviderInitializationException.instantiation(e);
+        }
+    }
+
+    /**
+     * Compiles the constructor into a method handle taking the arguments as an {@code Object[]}, so creating instances
+     * skips the access checks and argument wrapping done by {@link Constructor#newInstance(Object...)}. Returns
+     * {@code null} when the constructor cannot be unreflected, in which case core reflection is used instead.
+     */
+    private static MethodHandle compile(Constructor<?> constructor) {
         try {
-            logger.debug("Creating new instance of class {}", constructor.getDeclaringClass().getSimpleName());
-            return constructor.newInstance(args);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new ProviderInitializationException("Unable to create an instance of the class", e);
+            constructor.trySetAccessible();
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            logger.debug("Unable to compile constructor of class {}, falling back to reflection",
+                    constructor.getDeclaringClass().getSimpleName());
+            return null;
         }
     }
 }
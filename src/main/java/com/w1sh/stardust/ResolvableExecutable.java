@@ -17,6 +17,18 @@ public interface ResolvableExecutable<S> extends Resolvable<S> {
 
     List<ResolvableParameter<?>> getParameters();
 
+    ExecutableMetadata getMetadata();
+
     Object resolve(Object[] args);
 
+    /**
+     * Returns whether the executable returns a {@link java.util.concurrent.Future} of the instance rather than the
+     * instance itself, in which case {@link #getActualType()} is the type of the instance.
+     *
+     * @return {@code true} if {@link #resolve(Object[])} returns a future of the instance.
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
 }
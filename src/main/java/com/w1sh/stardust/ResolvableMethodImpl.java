@@ -1,25 +1,46 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.annotation.Pool;
 import com.w1sh.stardust.annotation.Primary;
 import com.w1sh.stardust.annotation.Profile;
 import com.w1sh.stardust.annotation.Provide;
 import com.w1sh.stardust.exception.ProviderInitializationException;
+import com.w1sh.stardust.exception.ProviderRegistrationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Priority;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.Future;
 
 public class ResolvableMethodImpl<S> implements ResolvableExecutable<S> {
 
+    private static final Logger logger = LoggerFactory.getLogger(ResolvableMethodImpl.class);
+
     private final Method method;
+    private final MethodHandle invoker;
     private final List<ResolvableParameter<?>> parameters;
     private final Object declaringClassInstance;
+    private final ExecutableMetadata metadata;
+    private final Class<?> actualType;
+    private final boolean async;
 
     public ResolvableMethodImpl(Method method, Object declaringClassInstance) {
         this.method = method;
+        this.async = Future.class.isAssignableFrom(method.getReturnType());
+        this.actualType = async ? futureType(method) : method.getReturnType();
+        this.invoker = compile(method);
+        this.metadata = readMetadata(method);
         this.declaringClassInstance = declaringClassInstance;
         List<ResolvableParameter<?>> set = new ArrayList<>();
         Parameter[] methodParameters = method.getParameters();
@@ -30,10 +51,40 @@ public class ResolvableMethodImpl<S> implements ResolvableExecutable<S> {
         this.parameters = set;
     }
 
+    private ResolvableMethodImpl(ResolvableMethodImpl<S> unbound, Object declaringClassInstance) {
+        this.method = unbound.method;
+        this.async = unbound.async;
+        this.actualType = unbound.actualType;
+        this.invoker = unbound.invoker;
+        this.metadata = unbound.metadata;
+        this.parameters = unbound.parameters;
+        this.declaringClassInstance = declaringClassInstance;
+    }
+
+    /**
+     * Returns a copy of this method invoked on the given instance, sharing the compiled invoker, metadata and parameters
+     * of this one. Allows methods to be inspected before the instance declaring them exists.
+     *
+     * @param declaringClassInstance the instance to invoke the method on
+     * @return a copy of this method bound to the given instance.
+     */
+    public ResolvableMethodImpl<S> bind(Object declaringClassInstance) {
+        return new ResolvableMethodImpl<>(this, declaringClassInstance);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Class<S> getActualType() {
-        return (Class<S>) method.getReturnType();
+        return (Class<S>) actualType;
+    }
+
+    /**
+     * Returns whether the method returns a {@link Future}, such as a {@link java.util.concurrent.CompletableFuture},
+     * of the instance it provides. The provider is then registered under the type argument of the future.
+     */
+    @Override
+    public boolean isAsync() {
+        return async;
     }
 
     @Override
@@ -56,33 +107,32 @@ public class ResolvableMethodImpl<S> implements ResolvableExecutable<S> {
 
     @Override
     public Integer getPriority() {
-        Priority annotation = getAnnotation(Priority.class);
-        return annotation != null ? annotation.value() : 0;
+        return metadata.priority();
     }
 
     @Override
     public Set<String> getActiveProfiles() {
-        Profile annotation = getAnnotation(Profile.class);
-        return (annotation != null && annotation.value() != null) ? Set.of(annotation.value()) : Set.of();
+        return metadata.activeProfiles();
     }
 
     @Override
     public Boolean isPrimary() {
-        return isAnnotationPresent(Primary.class);
+        return metadata.primary();
     }
 
     @Override
     public Scope getScope() {
-        Provide annotation = getAnnotation(Provide.class);
-        Objects.requireNonNull(annotation);
-        return annotation.scope();
+        return metadata.scope();
     }
 
     @Override
     public String getName() {
-        Provide annotation = getAnnotation(Provide.class);
-        Objects.requireNonNull(annotation);
-        return !annotation.value().isBlank() ? annotation.value() : method.getName();
+        return metadata.name();
+    }
+
+    @Override
+    public ExecutableMetadata getMetadata() {
+        return metadata;
     }
 
     @Override
@@ -92,10 +142,76 @@ public class ResolvableMethodImpl<S> implements ResolvableExecutable<S> {
 
     @Override
     public Object resolve(Object[] args) {
+        if (invoker == null) {
+            try {
+                return method.invoke(declaringClassInstance, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof Error error) throw error;
+                throw ProviderInitializationException.instantiation(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw ProviderInitializationException.instantiation(e);
+            }
+        }
+        try {
+            return (Object) invoker.invokeExact(declaringClassInstance, args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ProviderInitializationException.instantiation(e);
+        }
+    }
+
+    /**
+     * Returns the type argument of the future returned by the method, which is the type the provider is registered under.
+     */
+    private static Class<?> futureType(Method method) {
+        final Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType parameterizedType) {
+            final Type argument = parameterizedType.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> clazz) return clazz;
+            if (argument instanceof ParameterizedType parameterizedArgument) return (Class<?>) parameterizedArgument.getRawType();
+        }
+        throw ProviderRegistrationException.untypedFuture(method.getName());
+    }
+
+    /**
+     * Reads the metadata of the method once. Methods without {@link Provide} get the same defaults as an empty
+     * {@code @Provide}, being the singleton scope and the method name, where reading their scope or name used to fail
+     * with a {@link NullPointerException}. Modules only register annotated methods, so this only matters to executables
+     * created directly.
+     */
+    private static ExecutableMetadata readMetadata(Method method) {
+        final Provide provide = method.getAnnotation(Provide.class);
+        final Priority priority = method.getAnnotation(Priority.class);
+        final Profile profile = method.getAnnotation(Profile.class);
+        final Pool pool = method.getAnnotation(Pool.class);
+        return new ExecutableMetadata(
+                (provide != null && !provide.value().isBlank()) ? provide.value() : method.getName(),
+                provide != null ? provide.scope() : Scope.SINGLETON,
+                priority != null ? priority.value() : 0,
+                priority != null,
+                (profile != null && profile.value() != null) ? Set.of(profile.value()) : Set.of(),
+                method.isAnnotationPresent(Primary.class),
+                pool != null ? pool.maxSize() : 0);
+    }
+
+    /**
+     * Compiles the method into a method handle taking the receiver and the arguments as an {@code Object[]}. Static
+     * methods ignore the receiver. Returns {@code null} when the method cannot be unreflected, in which case core
+     * reflection is used instead.
+     */
+    private static MethodHandle compile(Method method) {
         try {
-            return method.invoke(declaringClassInstance, args);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new ProviderInitializationException("Unable to create an instance of the class", e);
+            method.trySetAccessible();
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            logger.debug("Unable to compile method {}, falling back to reflection", method.getName());
+            return null;
         }
     }
 }
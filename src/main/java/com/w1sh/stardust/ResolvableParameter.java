@@ -5,4 +5,6 @@ import java.lang.reflect.ParameterizedType;
 public interface ResolvableParameter<S> extends Resolvable<S>, AnnotatedDependency {
 
     ParameterizedType getParameterizedType();
+
+    ParameterMetadata getMetadata();
 }
@@ -1,8 +1,6 @@
 package com.w1sh.stardust;
 
-import com.w1sh.stardust.annotation.Primary;
-import com.w1sh.stardust.annotation.Qualifier;
-import com.w1sh.stardust.annotation.Required;
+import com.w1sh.stardust.annotation.*;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
@@ -12,9 +10,11 @@ import java.util.Set;
 public class ResolvableParameterImpl<S> implements ResolvableParameter<S> {
 
     private final Parameter parameter;
+    private final ParameterMetadata metadata;
 
     public ResolvableParameterImpl(Parameter parameter) {
         this.parameter = parameter;
+        this.metadata = readMetadata(parameter);
     }
 
     @Override
@@ -28,6 +28,11 @@ public class ResolvableParameterImpl<S> implements ResolvableParameter<S> {
         return (ParameterizedType) parameter.getParameterizedType();
     }
 
+    @Override
+    public ParameterMetadata getMetadata() {
+        return metadata;
+    }
+
     @Override
     public <T extends Annotation> T getAnnotation(Class<T> annotationType) {
         return parameter.getAnnotation(annotationType);
@@ -45,19 +50,26 @@ public class ResolvableParameterImpl<S> implements ResolvableParameter<S> {
 
     @Override
     public Boolean isPrimary() {
-        return getAnnotation(Primary.class) != null;
+        return metadata.primary();
     }
 
     @Override
     public String getQualifier() {
-        Qualifier annotation = getAnnotation(Qualifier.class);
-        return (annotation != null && !annotation.name().isBlank()) ? annotation.name() : null;
+        return metadata.qualifier();
     }
 
     @Override
     public Boolean isRequired() {
-        return getAnnotation(Required.class) != null;
+        return metadata.required();
     }
 
-
+    private static ParameterMetadata readMetadata(Parameter parameter) {
+        final Qualifier qualifier = parameter.getAnnotation(Qualifier.class);
+        return new ParameterMetadata(
+                (qualifier != null && !qualifier.name().isBlank()) ? qualifier.name() : null,
+                parameter.isAnnotationPresent(Required.class),
+                parameter.isAnnotationPresent(Primary.class),
+                parameter.isAnnotationPresent(Introspect.class),
+                parameter.getAnnotation(Property.class));
+    }
 }
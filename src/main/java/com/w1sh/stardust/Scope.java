@@ -1,5 +1,10 @@
 package com.w1sh.stardust;
 
 public enum Scope {
-    SINGLETON, PROTOTYPE
+    SINGLETON, PROTOTYPE,
+    /**
+     * Instances are borrowed from and returned to a bounded pool owned by the container, through a
+     * {@link com.w1sh.stardust.binding.Pooled} binding, see {@link PooledObjectProvider}.
+     */
+    POOLED
 }
@@ -1,12 +1,11 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.LifecycleMetadata.InjectionPoint;
 import com.w1sh.stardust.annotation.Inject;
 import com.w1sh.stardust.exception.PostConstructInvocationException;
 
 import javax.annotation.Priority;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.List;
 
 @Priority(999)
 public class SetterInjectionPostConstructInterceptor implements InvocationInterceptor {
@@ -18,23 +17,27 @@ public class SetterInjectionPostConstructInterceptor implements InvocationInterc
 
     @Override
     public void intercept(Object instance) {
-        for (Method method : instance.getClass().getDeclaredMethods()) {
-            if (method.isAnnotationPresent(Inject.class)) {
-                final var objects = new Object[method.getParameterCount()];
-                Parameter[] parameters = method.getParameters();
-                for (int i = 0, parametersLength = parameters.length; i < parametersLength; i++) {
-                    ResolvableParameterImpl<Object> resolvableParameter = new ResolvableParameterImpl<>(parameters[i]);
-                    objects[i] = resolver.resolve(resolvableParameter);
-                }
-                try {
-                    method.invoke(instance, objects);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new PostConstructInvocationException(method, e);
-                }
+        for (InjectionPoint injectionPoint : LifecycleMetadata.forClass(instance.getClass()).injectionPoints()) {
+            final List<ResolvableParameter<?>> parameters = injectionPoint.parameters();
+            final var objects = new Object[parameters.size()];
+            for (int i = 0, parametersLength = parameters.size(); i < parametersLength; i++) {
+                objects[i] = resolver.resolve(parameters.get(i));
+            }
+            try {
+                injectionPoint.invoke(instance, objects);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PostConstructInvocationException(injectionPoint.method(), e);
             }
         }
     }
 
+    @Override
+    public boolean appliesTo(Class<?> type) {
+        return !LifecycleMetadata.forClass(type).injectionPoints().isEmpty();
+    }
+
     @Override
     public InvocationType getInterceptorType() {
         return InvocationType.POST_CONSTRUCT;
@@ -0,0 +1,48 @@
+package com.w1sh.stardust;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * What happened to every component destroyed when the container was shut down, see
+ * {@link AbstractProviderContainer#shutdown()}. Only components that at least one
+ * {@link InvocationInterceptor.InvocationType#PRE_DESTROY pre-destroy} interceptor applies to are reported, in the
+ * order they were done with, followed by those abandoned once the shutdown ran out of time.
+ *
+ * @param elapsed    how long the whole shutdown took
+ * @param components the outcome of each component
+ */
+public record ShutdownReport(Duration elapsed, List<ComponentShutdown> components) {
+
+    public ShutdownReport {
+        components = List.copyOf(components);
+    }
+
+    /**
+     * Returns whether every component was destroyed successfully and in time.
+     */
+    public boolean isComplete() {
+        return components.stream().allMatch(component -> component.status() == Status.DESTROYED);
+    }
+
+    /**
+     * The outcome of destroying a single component.
+     *
+     * @param name    the name the component was registered under
+     * @param status  how its destruction ended
+     * @param elapsed how long its pre-destroy interceptors ran, or {@link Duration#ZERO} if they never ran
+     * @param failure what its pre-destroy interceptors threw, if they failed
+     */
+    public record ComponentShutdown(String name, Status status, Duration elapsed, Throwable failure) {}
+
+    public enum Status {
+        /** Every pre-destroy interceptor ran on every instance of the component. */
+        DESTROYED,
+        /** A pre-destroy interceptor threw. */
+        FAILED,
+        /** The pre-destroy interceptors did not finish within the timeout of a single component. */
+        TIMED_OUT,
+        /** The shutdown ran out of time before the component was done with. */
+        ABANDONED
+    }
+}
@@ -0,0 +1,141 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Primary;
+import com.w1sh.stardust.util.Types;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Providers created during a parallel registration that may not have been registered in the {@link ProviderStore} yet.
+ * <br>
+ * Providers are created in whatever order their dependencies allow, but they are only registered in the store in the
+ * order given by the {@link DependencyGraph}, each one as soon as every provider before it has been created. Until then
+ * they are staged here, so that lookups made while creating other providers can still find them. Lookups must read the
+ * staged providers before the store, so a provider registered meanwhile is seen at least once.
+ */
+final class StagedProviders {
+
+    private final List<DependencyGraph.Node> order;
+    private final ProviderStore store;
+    private final AtomicReferenceArray<ObjectProvider<?>> providers;
+    private final Map<String, Integer> names;
+    private final boolean[] primaries;
+    private final Lock commitLock = new ReentrantLock();
+    private volatile int committed;
+
+    StagedProviders(List<DependencyGraph.Node> order, ProviderStore store) {
+        this.order = order;
+        this.store = store;
+        this.providers = new AtomicReferenceArray<>(order.size());
+        this.names = new HashMap<>(order.size());
+        this.primaries = new boolean[order.size()];
+        for (int position = 0; position < order.size(); position++) {
+            final DependencyGraph.Node node = order.get(position);
+            names.put(node.name(), position);
+            primaries[position] = Types.getAnnotationTypes(node.executable().getActualType()).contains(Primary.class);
+        }
+    }
+
+    /**
+     * Stages the provider created for the node at the given position, then registers in the store every staged provider
+     * that no longer waits on a provider before it.
+     *
+     * @param position the position of the node in the registration order
+     * @param provider the provider created for the node
+     */
+    void complete(int position, ObjectProvider<?> provider) {
+        providers.set(position, provider);
+        commitLock.lock();
+        try {
+            int next = committed;
+            while (next < order.size() && providers.get(next) != null) {
+                final DependencyGraph.Node node = order.get(next);
+                register(store, node, providers.get(next));
+                committed = ++next;
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Registers in the store, in order, every staged provider still waiting on a provider before it. Called once every
+     * creation is over, so providers that only waited on a failed provider are registered as well.
+     *
+     * @return the number of providers registered in the store overall.
+     */
+    int commitRemaining() {
+        commitLock.lock();
+        try {
+            int registered = committed;
+            for (int position = committed; position < order.size(); position++) {
+                final ObjectProvider<?> provider = providers.get(position);
+                if (provider != null) {
+                    register(store, order.get(position), provider);
+                    registered++;
+                }
+            }
+            committed = order.size();
+            return registered;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Registers the provider created for the node in the store, under the name and type of the node.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void register(ProviderStore store, DependencyGraph.Node node, ObjectProvider<T> provider) {
+        store.register(node.name(), (Class<T>) node.executable().getActualType(), provider);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ObjectProvider<T> get(String name) {
+        final Integer position = names.get(name);
+        return position != null ? (ObjectProvider<T>) providers.get(position) : null;
+    }
+
+    <T> List<ObjectProvider<T>> get(Class<T> clazz) {
+        return find(clazz, false);
+    }
+
+    <T> List<ObjectProvider<T>> getPrimary(Class<T> clazz) {
+        return find(clazz, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<ObjectProvider<T>> find(Class<T> clazz, boolean primary) {
+        List<ObjectProvider<T>> found = List.of();
+        for (int position = committed; position < order.size(); position++) {
+            final ObjectProvider<?> provider = providers.get(position);
+            if (provider == null || (primary && !primaries[position])) continue;
+            if (clazz.isAssignableFrom(order.get(position).executable().getActualType())) {
+                if (found.isEmpty()) found = new ArrayList<>(2);
+                found.add((ObjectProvider<T>) provider);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Merges providers found in the store with staged providers, dropping staged providers registered in the store while
+     * the lookup was running.
+     */
+    static <T> List<ObjectProvider<T>> merge(List<ObjectProvider<T>> registered, List<ObjectProvider<T>> staged) {
+        if (staged.isEmpty()) return registered;
+        final List<ObjectProvider<T>> merged = new ArrayList<>(registered);
+        for (ObjectProvider<T> provider : staged) {
+            if (registered.stream().noneMatch(candidate -> candidate == provider)) {
+                merged.add(provider);
+            }
+        }
+        return List.copyOf(merged);
+    }
+}
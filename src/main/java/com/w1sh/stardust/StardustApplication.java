@@ -6,6 +6,9 @@ import com.w1sh.stardust.configuration.PropertyValuePostConstructInterceptor;
 import com.w1sh.stardust.configuration.StardustConfiguration;
 import com.w1sh.stardust.dependency.*;
 import com.w1sh.stardust.dependency.DependencyResolver.EvaluationPhase;
+import com.w1sh.stardust.event.PhaseEventListener;
+import com.w1sh.stardust.event.PhaseEventMulticaster;
+import com.w1sh.stardust.event.SimplePhaseEventMulticaster;
 import com.w1sh.stardust.exception.ComponentCreationException;
 import com.w1sh.stardust.health.HealthProbe;
 import com.w1sh.stardust.health.HealthProbeProcessor;
@@ -15,24 +18,40 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public class StardustApplication {
 
     private static final Logger logger = LoggerFactory.getLogger(StardustApplication.class);
 
-    private final Set<Class<?>> sources;
+    private final Supplier<List<Class<?>>> candidates;
     private StardustConfiguration configuration;
+    private volatile Readiness readiness;
 
     public StardustApplication(Class<?>... sources) {
-        this.sources = Set.of(sources);
+        final Set<Class<?>> sourceSet = Set.of(sources);
+        this.candidates = () -> Inspector.findAllSubclassesOf(sourceSet, Provide.class);
     }
 
     public StardustApplication(StardustConfiguration configuration, Class<?>... sources) {
-        this.sources = Set.of(sources);
+        this(sources);
+        this.configuration = configuration;
+    }
+
+    /**
+     * Creates an application registering the given classes as they are, instead of the classes found in sources.
+     */
+    StardustApplication(StardustConfiguration configuration, List<Class<?>> classes) {
+        this.candidates = () -> classes;
         this.configuration = configuration;
     }
 
@@ -50,50 +69,224 @@ public class StardustApplication {
             configuration = StardustConfiguration.base();
         }
         StardustApplicationInitializer initializer = new StardustApplicationInitializer(configuration);
-        initializer.initialize(sources);
+        initializer.initialize(candidates.get());
+        if (initializer.container.contains(Readiness.class)) {
+            readiness = initializer.container.instance(Readiness.class);
+        }
+        registerHealthProbes(initializer.container);
+    }
 
-        List<HealthProbe> healthProbes = initializer.container.instances(HealthProbe.class);
-        HealthProbeProcessor probeProcessor = initializer.container.instance(HealthProbeProcessor.class);
+    /**
+     * Starts the application in stages on a background thread, returning right away. Components annotated with
+     * {@link javax.annotation.Priority}, whatever its value, along with everything they depend on, are created first,
+     * after which {@link Startup#coreReady()} completes. Every other component is then created on the same thread, and
+     * {@link Startup#fullyReady()} completes once the container is frozen and its {@link Readiness} reached.
+     * <br>
+     * {@link InvocationInterceptor Interceptors} are the exception, as their priority only orders them among the other
+     * interceptors: an interceptor is part of the core only when a core component depends on it.
+     *
+     * @param args the arguments of the application
+     * @return the progress of the startup.
+     */
+    public Startup runAsync(String... args) {
+        if (configuration == null) {
+            logger.debug("No configuration found, using default configuration.");
+            configuration = StardustConfiguration.base();
+        }
+        final CompletableFuture<ProviderContainer> coreReady = new CompletableFuture<>();
+        final CompletableFuture<ProviderContainer> fullyReady = new CompletableFuture<>();
+        Thread.ofPlatform().name("stardust-startup").start(() -> {
+            try {
+                StardustApplicationInitializer initializer = new StardustApplicationInitializer(configuration);
+                initializer.initialize(candidates.get(), () -> coreReady.complete(initializer.container));
+                if (initializer.container.contains(Readiness.class)) {
+                    readiness = initializer.container.instance(Readiness.class);
+                }
+                registerHealthProbes(initializer.container);
+                final CompletableFuture<Void> ready = readiness != null
+                        ? readiness.whenReady() : CompletableFuture.completedFuture(null);
+                ready.whenComplete((result, failure) -> {
+                    if (failure != null) {
+                        fullyReady.completeExceptionally(failure);
+                    } else {
+                        logger.info("Application fully ready");
+                        fullyReady.complete(initializer.container);
+                    }
+                });
+            } catch (Throwable e) {
+                logger.error("Failed to start application", e);
+                coreReady.completeExceptionally(e);
+                fullyReady.completeExceptionally(e);
+            }
+        });
+        return new Startup(coreReady.copy(), fullyReady.copy());
+    }
+
+    private static void registerHealthProbes(ProviderContainer container) {
+        List<HealthProbe> healthProbes = container.instances(HealthProbe.class);
+        HealthProbeProcessor probeProcessor = container.instance(HealthProbeProcessor.class);
         healthProbes.forEach(probe -> {
             Probe annotation = probe.getClass().getAnnotation(Probe.class);
             probeProcessor.register(probe, annotation.delay(), annotation.period());
         });
     }
 
+    /**
+     * Returns the readiness of the container started by {@link #run(String...)}, which flips once every
+     * {@link StardustConfiguration#withAsyncPostConstruct() asynchronous} post-construct method has finished.
+     *
+     * @return the readiness of the container, or {@code null} if the application was not run or its container does not
+     * track readiness.
+     */
+    public Readiness getReadiness() {
+        return readiness;
+    }
+
     static class StardustApplicationInitializer {
 
         private final SetValueEnumMap<EvaluationPhase, DependencyResolver> resolvers;
         private final ProviderContainer container;
+        private final NamingStrategy namingStrategy;
         private final Environment environment;
+        private final int instantiationParallelism;
+        private final boolean virtualThreadInstantiation;
+        private final boolean lazyInitialization;
+        private final boolean lazyProxies;
+        private final Supplier<? extends InstanceTracker<?>> prototypeTracking;
+        private final Duration shutdownTimeout;
+        private final Duration componentShutdownTimeout;
+        private final boolean asyncPostConstruct;
+        private final WarmupPolicy warmupPolicy;
 
         StardustApplicationInitializer(StardustConfiguration configuration) {
             try {
-                NamingStrategy namingStrategy = configuration.getNamingStrategy().getConstructor().newInstance();
-                this.container = configuration.getRegistry().getConstructor(NamingStrategy.class).newInstance(namingStrategy);
+                this.namingStrategy = configuration.getNamingStrategy().getConstructor().newInstance();
+                if (configuration.getProviderStore() != null) {
+                    ProviderStore providerStore = configuration.getProviderStore().getConstructor().newInstance();
+                    this.container = configuration.getRegistry().getConstructor(NamingStrategy.class, ProviderStore.class)
+                            .newInstance(namingStrategy, providerStore);
+                } else {
+                    this.container = configuration.getRegistry().getConstructor(NamingStrategy.class).newInstance(namingStrategy);
+                }
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
                      NoSuchMethodException e) {
                 throw new ComponentCreationException("Failed to create provider container", e);
             }
             this.resolvers = new SetValueEnumMap<>(EvaluationPhase.class);
             this.environment = new Environment(container, new HashSet<>());
+            this.instantiationParallelism = configuration.getInstantiationParallelism();
+            this.virtualThreadInstantiation = configuration.isVirtualThreadInstantiation();
+            this.lazyInitialization = configuration.isLazyInitialization();
+            this.lazyProxies = configuration.isLazyProxies();
+            this.prototypeTracking = configuration.getPrototypeTracking();
+            this.shutdownTimeout = configuration.getShutdownTimeout();
+            this.componentShutdownTimeout = configuration.getComponentShutdownTimeout();
+            this.asyncPostConstruct = configuration.isAsyncPostConstruct();
+            this.warmupPolicy = configuration.getWarmupPolicy();
 
             container.register(HealthProbeProcessorImpl.class);
+            container.register(SimplePhaseEventMulticaster.class);
+            container.register(configuration.getPropertiesRegistry());
             internalInterceptors().forEach(container::register);
             internalResolvers().forEach(container::register);
-            container.register(configuration.getPropertiesRegistry());
+
+            if (container instanceof InterceptorAware interceptorAware) {
+                internalInterceptors().forEach(interceptor -> interceptorAware.addInterceptor(container.instance(interceptor)));
+            }
+        }
+
+        public void initialize(List<Class<?>> candidates) {
+            final List<Class<?>> registrationReadyClasses = findRegistrationReadyClasses(candidates);
+            configureContainer();
+            registerAll(DependencyGraph.of(registrationReadyClasses, namingStrategy));
+            warmUp();
+            container.freeze();
         }
 
-        public void initialize(Set<Class<?>> sources) {
+        /**
+         * Initializes the container in two stages, first registering the {@link #isCore(DependencyGraph.Node) core}
+         * classes along with the classes they depend on, then every other class.
+         *
+         * @param candidates the classes to register, unless their conditionals do not match
+         * @param coreReady  called once the first stage is registered
+         */
+        public void initialize(List<Class<?>> candidates, Runnable coreReady) {
+            final List<Class<?>> registrationReadyClasses = findRegistrationReadyClasses(candidates);
+            configureContainer();
+            final DependencyGraph graph = DependencyGraph.of(registrationReadyClasses, namingStrategy);
+            final List<Class<?>> coreClasses = graph.classesRequiredBy(StardustApplicationInitializer::isCore);
+            registerAll(graph.subgraph(coreClasses));
+            logger.info("Core ready with {} of {} classes registered", coreClasses.size(), registrationReadyClasses.size());
+            coreReady.run();
+
+            final Set<Class<?>> core = new HashSet<>(coreClasses);
+            registerAll(graph.subgraph(registrationReadyClasses.stream().filter(clazz -> !core.contains(clazz)).toList()));
+            warmUp();
+            container.freeze();
+        }
+
+        /**
+         * Returns whether the node is part of the core started first, being annotated with
+         * {@link javax.annotation.Priority} without being an {@link InvocationInterceptor}, whose priority only orders
+         * it among the other interceptors.
+         */
+        private static boolean isCore(DependencyGraph.Node node) {
+            return node.executable().getMetadata().prioritized()
+                    && !InvocationInterceptor.class.isAssignableFrom(node.executable().getActualType());
+        }
+
+        private List<Class<?>> findRegistrationReadyClasses(List<Class<?>> candidates) {
             List<Class<?>> registrationReadyClasses = new ArrayList<>();
-            List<Class<?>> allClassPendingRegistration = Inspector.findAllSubclassesOf(sources, Provide.class);
 
-            allClassPendingRegistration.forEach(clazz -> {
+            candidates.forEach(clazz -> {
                 if (!dependenciesMatchForPhase(clazz, EvaluationPhase.BEFORE_REGISTRATION)) {
                     logger.debug("Skipping registration of class {} as conditionals did not match", clazz.getSimpleName());
                 }
                 registrationReadyClasses.add(clazz);
             });
-            registrationReadyClasses.forEach(container::register);
+            return registrationReadyClasses;
+        }
+
+        private void configureContainer() {
+            if (container instanceof AbstractProviderContainer abstractContainer) {
+                abstractContainer.setLazyInitialization(lazyInitialization);
+                abstractContainer.setLazyProxies(lazyInitialization && lazyProxies);
+                if (prototypeTracking != null) {
+                    abstractContainer.setPrototypeTracking(prototypeTracking);
+                }
+                if (shutdownTimeout != null) {
+                    abstractContainer.setShutdownTimeouts(shutdownTimeout, componentShutdownTimeout);
+                }
+            }
+        }
+
+        private void registerAll(DependencyGraph graph) {
+            if (virtualThreadInstantiation) {
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    container.registerAll(graph, executor);
+                }
+            } else if (instantiationParallelism > 0) {
+                final ForkJoinPool pool = new ForkJoinPool(instantiationParallelism);
+                try {
+                    container.registerAll(graph, pool);
+                } finally {
+                    pool.shutdown();
+                }
+            } else {
+                container.registerAll(graph);
+            }
+        }
+
+        /**
+         * Starts the warm-up phase when one is configured, reporting it to every {@link PhaseEventListener} registered.
+         * It runs in the background, before the container is frozen so that readiness waits for it.
+         */
+        @SuppressWarnings("unchecked")
+        private void warmUp() {
+            if (warmupPolicy == null || !(container instanceof AbstractProviderContainer abstractContainer)) return;
+            final PhaseEventMulticaster multicaster = container.instance(PhaseEventMulticaster.class);
+            container.instances(PhaseEventListener.class).forEach(multicaster::addApplicationListener);
+            abstractContainer.warmUp(warmupPolicy, multicaster);
         }
 
         private boolean dependenciesMatchForPhase(Class<?> clazz, EvaluationPhase phase) {
@@ -114,7 +307,9 @@ public class StardustApplication {
 
 
         private List<Class<? extends InvocationInterceptor>> internalInterceptors() {
-            return List.of(JakartaPostConstructInterceptor.class, JakartaPreDestroyInterceptor.class,
+            final Class<? extends InvocationInterceptor> postConstructInterceptor = asyncPostConstruct
+                    ? AsyncPostConstructInterceptor.class : JakartaPostConstructInterceptor.class;
+            return List.of(postConstructInterceptor, JakartaPreDestroyInterceptor.class,
                     PropertyValuePostConstructInterceptor.class, SetterInjectionPostConstructInterceptor.class);
         }
 
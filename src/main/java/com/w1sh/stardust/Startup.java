@@ -0,0 +1,15 @@
+package com.w1sh.stardust;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The progress of an application started through {@link StardustApplication#runAsync(String...)}. Both futures complete
+ * exceptionally with whatever failed the startup.
+ *
+ * @param coreReady  completes with the container once every component annotated with
+ *                   {@link javax.annotation.Priority}, interceptors aside, along with everything it depends on, has
+ *                   been created
+ * @param fullyReady completes with the container once every other component has been created as well, the container
+ *                   frozen and its {@link Readiness} reached
+ */
+public record Startup(CompletableFuture<ProviderContainer> coreReady, CompletableFuture<ProviderContainer> fullyReady) {}
@@ -0,0 +1,16 @@
+package com.w1sh.stardust;
+
+/**
+ * Interface to be implemented by components that take part in the warm-up phase that follows startup, as an
+ * alternative to annotating methods with {@link com.w1sh.stardust.annotation.Warmup}.
+ *
+ * @see WarmupPolicy
+ */
+@FunctionalInterface
+public interface Warmable {
+
+    /**
+     * Runs a single iteration of the warm-up of this component, exercising its hot paths.
+     */
+    void warmUp();
+}
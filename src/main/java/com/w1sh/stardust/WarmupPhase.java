@@ -0,0 +1,87 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.LifecycleMetadata.LifecycleMethod;
+import com.w1sh.stardust.event.ComponentWarmupEndEvent;
+import com.w1sh.stardust.event.PhaseEventMulticaster;
+import com.w1sh.stardust.event.WarmupPhaseEndEvent;
+import com.w1sh.stardust.event.WarmupPhaseStartEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the warm-up hooks of components, being the {@link com.w1sh.stardust.annotation.Warmup} annotated methods and
+ * {@link Warmable#warmUp()}, for as long as the {@link WarmupPolicy} allows. Every component is warmed up on its own
+ * virtual thread, concurrently with the others, once its own initialization is over.
+ * <br>
+ * The phase and every component are reported to the multicaster, through a {@link WarmupPhaseStartEvent}, a
+ * {@link ComponentWarmupEndEvent} per component and a {@link WarmupPhaseEndEvent}.
+ */
+final class WarmupPhase {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupPhase.class);
+
+    private final WarmupPolicy policy;
+    private final PhaseEventMulticaster multicaster;
+    private final Readiness readiness;
+
+    WarmupPhase(WarmupPolicy policy, PhaseEventMulticaster multicaster, Readiness readiness) {
+        this.policy = policy;
+        this.multicaster = multicaster;
+        this.readiness = readiness;
+    }
+
+    /**
+     * Returns whether instances of the given class have any warm-up hook.
+     */
+    static boolean appliesTo(Class<?> type) {
+        return Warmable.class.isAssignableFrom(type) || !LifecycleMetadata.forClass(type).warmupMethods().isEmpty();
+    }
+
+    /**
+     * Warms up the given components, returning once every one of them is done.
+     *
+     * @param components the components to warm up, by the name they were registered under
+     */
+    void run(Map<String, Object> components) {
+        final long start = System.nanoTime();
+        multicaster.multicast(new WarmupPhaseStartEvent(components.size()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            components.forEach((name, instance) -> executor.execute(() -> multicaster.multicast(warmUp(name, instance))));
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        logger.info("Warmed up {} components in {} ms", components.size(), elapsed.toMillis());
+        multicaster.multicast(new WarmupPhaseEndEvent(elapsed));
+    }
+
+    private ComponentWarmupEndEvent warmUp(String name, Object instance) {
+        final List<LifecycleMethod> hooks = LifecycleMetadata.forClass(instance.getClass()).warmupMethods();
+        int iteration = 0;
+        Throwable failure = null;
+        long start = System.nanoTime();
+        try {
+            readiness.awaitInitialized(instance);
+            start = System.nanoTime();
+            while (policy.allows(iteration, start)) {
+                if (instance instanceof Warmable warmable) {
+                    warmable.warmUp();
+                }
+                for (LifecycleMethod hook : hooks) {
+                    hook.invoke(instance);
+                }
+                iteration++;
+            }
+        } catch (Throwable e) {
+            logger.warn("Warm-up of {} failed after {} iterations", name, iteration, e);
+            failure = e;
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        logger.debug("Warmed up {} with {} iterations in {} ms", name, iteration, elapsed.toMillis());
+        return new ComponentWarmupEndEvent(name, iteration, elapsed, failure);
+    }
+}
@@ -0,0 +1,40 @@
+package com.w1sh.stardust;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * How long the warm-up hooks of every component are run for during the warm-up phase. Each component runs its hooks
+ * until it reaches either bound, whichever comes first.
+ *
+ * @param iterations the number of times the hooks of a component run, or 0 for no bound
+ * @param duration   the time the hooks of a component may run for, or {@link Duration#ZERO} for no bound
+ */
+public record WarmupPolicy(int iterations, Duration duration) {
+
+    public WarmupPolicy {
+        Objects.requireNonNull(duration);
+        if (iterations < 0 || duration.isNegative()) {
+            throw new IllegalArgumentException("Warm-up bounds must not be negative");
+        }
+        if (iterations == 0 && duration.isZero()) {
+            throw new IllegalArgumentException("Warm-up must be bounded by a number of iterations or a duration");
+        }
+    }
+
+    public static WarmupPolicy iterations(int iterations) {
+        return new WarmupPolicy(iterations, Duration.ZERO);
+    }
+
+    public static WarmupPolicy duration(Duration duration) {
+        return new WarmupPolicy(0, duration);
+    }
+
+    /**
+     * Returns whether a component that ran its hooks the given number of times since the given start may run them again.
+     */
+    boolean allows(int iteration, long startNanos) {
+        return (iterations == 0 || iteration < iterations)
+                && (duration.isZero() || System.nanoTime() - startNanos < duration.toNanos());
+    }
+}
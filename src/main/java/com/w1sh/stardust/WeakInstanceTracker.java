@@ -0,0 +1,47 @@
+package com.w1sh.stardust;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link InstanceTracker} holding its instances through weak references. References cleared by the garbage
+ * collector are enqueued and dropped the next time the tracker is used, so the tracker only grows with the instances
+ * still alive.
+ */
+final class WeakInstanceTracker<T> implements InstanceTracker<T> {
+
+    private final Set<Reference<T>> references = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<T> cleared = new ReferenceQueue<>();
+
+    @Override
+    public void track(T instance) {
+        expunge();
+        references.add(new WeakReference<>(instance, cleared));
+    }
+
+    @Override
+    public List<T> instances() {
+        expunge();
+        final List<T> instances = new ArrayList<>(references.size());
+        for (Reference<T> reference : references) {
+            final T instance = reference.get();
+            if (instance != null) {
+                instances.add(instance);
+            }
+        }
+        return Collections.unmodifiableList(instances);
+    }
+
+    private void expunge() {
+        Reference<? extends T> reference;
+        while ((reference = cleared.poll()) != null) {
+            references.remove(reference);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.w1sh.stardust.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Configures the pool of a provider in the {@link com.w1sh.stardust.Scope#POOLED pooled} scope. Pooled providers that
+ * are not annotated keep as many idle instances as there are available processors.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Pool {
+
+    /**
+     * The maximum number of idle instances the pool keeps.
+     */
+    int maxSize();
+}
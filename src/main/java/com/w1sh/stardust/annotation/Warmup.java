@@ -0,0 +1,14 @@
+package com.w1sh.stardust.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a method taking no parameters as a warm-up hook, run repeatedly during the warm-up phase that follows startup
+ * so that the paths it exercises are compiled before the application becomes ready. See
+ * {@link com.w1sh.stardust.Warmable} for the interface alternative.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Warmup {
+}
@@ -2,11 +2,19 @@ package com.w1sh.stardust.binding;
 
 import com.w1sh.stardust.ObjectProvider;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import static java.util.Objects.requireNonNull;
 
+/**
+ * A {@link Lazy} binding asking its provider for the singleton instance on the first {@link #get()} only. Once the
+ * instance is published, reads go through the volatile field alone, while the first calls are serialized through a
+ * {@link ReentrantLock} rather than a monitor, so virtual threads waiting on them are not pinned to their carrier.
+ */
 public class LazyBinding<T> implements Lazy<T> {
 
     private final ObjectProvider<T> provider;
+    private final ReentrantLock lock = new ReentrantLock();
     private volatile T delegate;
 
     public LazyBinding(ObjectProvider<T> provider) {
@@ -18,10 +26,21 @@ public class LazyBinding<T> implements Lazy<T> {
     }
 
     @Override
-    public synchronized T get() {
-        if (delegate == null) {
-            delegate = requireNonNull(provider.singletonInstance());
+    public T get() {
+        T current = delegate;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            current = delegate;
+            if (current == null) {
+                current = requireNonNull(provider.singletonInstance());
+                delegate = current;
+            }
+            return current;
+        } finally {
+            lock.unlock();
         }
-        return delegate;
     }
 }
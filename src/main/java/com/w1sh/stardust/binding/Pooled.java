@@ -0,0 +1,53 @@
+package com.w1sh.stardust.binding;
+
+import com.w1sh.stardust.PoolMetrics;
+
+import java.util.function.Function;
+
+/**
+ * A binding to the pool of a {@link com.w1sh.stardust.Scope#POOLED pooled} provider. Every instance taken through
+ * {@link #get()} must be handed back through {@link #release(Object)} or {@link #invalidate(Object)} once done with.
+ */
+public interface Pooled<T> extends Binding<T> {
+
+    /**
+     * Borrows an instance from the pool, creating one if none is idle.
+     */
+    @Override
+    T get();
+
+    /**
+     * Returns a borrowed instance to the pool, which validates it first if it is a {@link com.w1sh.stardust.Poolable}.
+     */
+    void release(T instance);
+
+    /**
+     * Drops a borrowed instance instead of returning it to the pool.
+     */
+    void invalidate(T instance);
+
+    /**
+     * Returns the current occupancy and the activity of the pool so far.
+     */
+    PoolMetrics metrics();
+
+    /**
+     * Borrows an instance for the duration of the given work, returning it to the pool afterwards, or dropping it if the
+     * work throws.
+     *
+     * @param work the work to do with the instance
+     * @return whatever the work returns.
+     */
+    default <R> R apply(Function<? super T, ? extends R> work) {
+        final T instance = get();
+        final R result;
+        try {
+            result = work.apply(instance);
+        } catch (RuntimeException | Error e) {
+            invalidate(instance);
+            throw e;
+        }
+        release(instance);
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.w1sh.stardust.binding;
+
+import com.w1sh.stardust.ObjectProvider;
+import com.w1sh.stardust.PoolMetrics;
+import com.w1sh.stardust.PooledObjectProvider;
+import com.w1sh.stardust.exception.ProviderInitializationException;
+
+public class PooledBinding<T> implements Pooled<T> {
+
+    private final PooledObjectProvider<T> provider;
+
+    public PooledBinding(PooledObjectProvider<T> provider) {
+        this.provider = provider;
+    }
+
+    public static <T> PooledBinding<T> of(ObjectProvider<T> provider) {
+        if (provider == null) return null;
+        if (!(provider instanceof PooledObjectProvider<T> pooled)) {
+            throw ProviderInitializationException.notPooled(provider.getClass().getSimpleName());
+        }
+        return new PooledBinding<>(pooled);
+    }
+
+    @Override
+    public T get() {
+        return provider.borrow();
+    }
+
+    @Override
+    public void release(T instance) {
+        provider.release(instance);
+    }
+
+    @Override
+    public void invalidate(T instance) {
+        provider.invalidate(instance);
+    }
+
+    @Override
+    public PoolMetrics metrics() {
+        return provider.metrics();
+    }
+}
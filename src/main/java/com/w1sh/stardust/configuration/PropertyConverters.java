@@ -0,0 +1,86 @@
+package com.w1sh.stardust.configuration;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Converters from raw property values into the types that {@link com.w1sh.stardust.annotation.Property} annotated
+ * parameters and fields may declare. A converter is looked up once for a target type and can then be applied to any
+ * number of values, so the type checks are not repeated for every conversion.
+ * <br>
+ * Supported types are {@link String}, the primitive types along with their wrappers, {@link Duration}, enums and
+ * arrays of any of those.
+ */
+public final class PropertyConverters {
+
+    private static final Map<Class<?>, Function<String, ?>> converters = Map.ofEntries(
+            Map.entry(String.class, value -> value),
+            Map.entry(Boolean.class, Boolean::parseBoolean),
+            Map.entry(boolean.class, Boolean::parseBoolean),
+            Map.entry(Integer.class, Integer::parseInt),
+            Map.entry(int.class, Integer::parseInt),
+            Map.entry(Long.class, Long::parseLong),
+            Map.entry(long.class, Long::parseLong),
+            Map.entry(Double.class, Double::parseDouble),
+            Map.entry(double.class, Double::parseDouble),
+            Map.entry(Float.class, Float::parseFloat),
+            Map.entry(float.class, Float::parseFloat),
+            Map.entry(Short.class, Short::parseShort),
+            Map.entry(short.class, Short::parseShort),
+            Map.entry(Byte.class, Byte::parseByte),
+            Map.entry(byte.class, Byte::parseByte),
+            Map.entry(Character.class, PropertyConverters::parseCharacter),
+            Map.entry(char.class, PropertyConverters::parseCharacter),
+            Map.entry(Duration.class, Duration::parse));
+
+    private PropertyConverters() {}
+
+    /**
+     * Returns a converter from a raw property value into the given type.
+     *
+     * @param type           the type to convert property values into
+     * @param arraySeparator the regular expression separating the elements of array values
+     * @return the converter, or {@code null} if the type is not supported.
+     */
+    public static Function<String, ?> converterFor(Class<?> type, String arraySeparator) {
+        final Function<String, ?> converter = converters.get(type);
+        if (converter != null) {
+            return converter;
+        } else if (type.isEnum()) {
+            return enumConverter(type.asSubclass(Enum.class));
+        } else if (type.isArray()) {
+            final Function<String, ?> componentConverter = converterFor(type.getComponentType(), arraySeparator);
+            if (componentConverter == null || type.getComponentType().isArray()) return null;
+            return arrayConverter(type.getComponentType(), componentConverter, arraySeparator);
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, ?> enumConverter(Class<? extends Enum> type) {
+        return value -> Enum.valueOf(type, value.trim());
+    }
+
+    private static Function<String, ?> arrayConverter(Class<?> componentType, Function<String, ?> componentConverter,
+                                                      String arraySeparator) {
+        final Pattern separator = Pattern.compile(arraySeparator);
+        return value -> {
+            final String[] values = separator.split(value);
+            final Object array = Array.newInstance(componentType, values.length);
+            for (int i = 0; i < values.length; i++) {
+                Array.set(array, i, componentConverter.apply(values[i]));
+            }
+            return array;
+        };
+    }
+
+    private static Character parseCharacter(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException(String.format("Cannot convert \"%s\" into a single character", value));
+        }
+        return value.charAt(0);
+    }
+}
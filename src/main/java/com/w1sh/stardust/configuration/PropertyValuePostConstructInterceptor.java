@@ -3,14 +3,36 @@ package com.w1sh.stardust.configuration;
 import com.w1sh.stardust.InvocationInterceptor;
 import com.w1sh.stardust.annotation.Inject;
 import com.w1sh.stardust.annotation.Property;
-import com.w1sh.stardust.annotation.Provide;
 import com.w1sh.stardust.annotation.Required;
 import com.w1sh.stardust.exception.PropertyValueSettingException;
+import com.w1sh.stardust.util.Types;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 public class PropertyValuePostConstructInterceptor implements InvocationInterceptor {
 
+    /**
+     * The {@link Property} annotated fields declared by each class, compiled into {@link PropertyField injections}.
+     */
+    private static final ClassValue<List<PropertyField>> PROPERTY_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<PropertyField> computeValue(Class<?> type) {
+            final List<PropertyField> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Property.class) && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(PropertyField.of(field));
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
     private final PropertiesRegistry registry;
 
     @Inject
@@ -18,27 +40,120 @@ public class PropertyValuePostConstructInterceptor implements InvocationIntercep
         this.registry = registry;
     }
 
+    /**
+     * Sets every {@link Property} annotated field of the instance to the value of its property, converted into the type
+     * of the field. Fields whose property is not present keep their current value, unless they are {@link Required}.
+     */
     @Override
     public void intercept(Object instance) {
-        try {
-            for (Field field : instance.getClass().getDeclaredFields()) {
-                if (field.isAnnotationPresent(Property.class)) {
-                    String property = field.getAnnotation(Property.class).value();
-                    String propertyValue = registry.getProperty(property);
-                    if (propertyValue == null && field.isAnnotationPresent(Required.class)) {
-                        throw new PropertyValueSettingException("Failed to set value to property marked as required, property is not present.");
-                    }
-                    field.setAccessible(true);
-                    field.set(instance, propertyValue);
+        for (PropertyField field : PROPERTY_FIELDS.get(instance.getClass())) {
+            String propertyValue = registry.getProperty(field.key());
+            if (propertyValue == null) {
+                if (field.required()) {
+                    throw new PropertyValueSettingException("Failed to set value to property marked as required, property is not present.");
                 }
+                continue;
             }
-        } catch (IllegalAccessException e) {
-            throw new PropertyValueSettingException("Failed to set property value.", e);
+            field.set(instance, propertyValue);
         }
     }
 
+    @Override
+    public boolean appliesTo(Class<?> type) {
+        return !PROPERTY_FIELDS.get(type).isEmpty();
+    }
+
     @Override
     public InvocationType getInterceptorType() {
         return InvocationType.POST_CONSTRUCT;
     }
+
+    /**
+     * A {@link Property} annotated field, along with the converter into its type and the handle used to set it. The last
+     * converted value is kept, so instances created while the property is unchanged skip the conversion. Array values are
+     * copied for every instance.
+     */
+    private static final class PropertyField {
+
+        private final Field field;
+        private final String key;
+        private final boolean required;
+        private final Function<String, ?> converter;
+        private final VarHandle handle;
+        private volatile Converted converted;
+
+        private PropertyField(Field field, String key, boolean required, Function<String, ?> converter, VarHandle handle) {
+            this.field = field;
+            this.key = key;
+            this.required = required;
+            this.converter = converter;
+            this.handle = handle;
+        }
+
+        private static PropertyField of(Field field) {
+            final Property property = field.getAnnotation(Property.class);
+            final Function<String, ?> converter = PropertyConverters.converterFor(field.getType(), property.arraySeparator());
+            if (converter == null) {
+                throw new PropertyValueSettingException(String.format("Cannot set property %s into field %s of unsupported type %s.",
+                        property.value(), field.getName(), field.getType().getName()));
+            }
+            return new PropertyField(field, property.value(), field.isAnnotationPresent(Required.class), converter, compile(field));
+        }
+
+        /**
+         * Returns a handle to the field, or {@code null} when the field is final or the package of the declaring class is
+         * not open to this module, in which case the field is set through core reflection instead.
+         */
+        private static VarHandle compile(Field field) {
+            if (Modifier.isFinal(field.getModifiers())) {
+                field.setAccessible(true);
+                return null;
+            }
+            try {
+                return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflectVarHandle(field);
+            } catch (IllegalAccessException | SecurityException e) {
+                field.setAccessible(true);
+                return null;
+            }
+        }
+
+        private String key() {
+            return key;
+        }
+
+        private boolean required() {
+            return required;
+        }
+
+        private void set(Object instance, String propertyValue) {
+            final Object value = convert(propertyValue);
+            try {
+                if (handle != null) {
+                    handle.set(instance, value);
+                } else {
+                    field.set(instance, value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new PropertyValueSettingException("Failed to set property value.", e);
+            }
+        }
+
+        private Object convert(String propertyValue) {
+            Converted current = converted;
+            if (current == null || !current.raw().equals(propertyValue)) {
+                try {
+                    current = new Converted(propertyValue, converter.apply(propertyValue));
+                } catch (RuntimeException e) {
+                    throw new PropertyValueSettingException(String.format("Failed to convert value of property %s into %s.",
+                            key, field.getType().getName()), e);
+                }
+                converted = current;
+            }
+            final Object value = current.value();
+            return value.getClass().isArray() ? Types.copyOfArray(value) : value;
+        }
+    }
+
+    private record Converted(String raw, Object value) {}
 }
@@ -1,24 +1,42 @@
 package com.w1sh.stardust.configuration;
 
 import com.w1sh.stardust.AbstractProviderContainer;
+import com.w1sh.stardust.InstanceTracker;
 import com.w1sh.stardust.ProviderContainer;
+import com.w1sh.stardust.ProviderStore;
+import com.w1sh.stardust.ProviderStoreImpl;
 import com.w1sh.stardust.StardustApplication;
+import com.w1sh.stardust.WarmupPolicy;
 import com.w1sh.stardust.naming.DefaultNamingStrategy;
 import com.w1sh.stardust.naming.NamingStrategy;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 public class StardustConfiguration {
 
     private Class<? extends ProviderContainer> registry;
     private Class<? extends PropertiesRegistry> propertiesRegistry;
     private Class<? extends NamingStrategy> namingStrategy;
+    private Class<? extends ProviderStore> providerStore;
+    private int instantiationParallelism;
+    private boolean virtualThreadInstantiation;
+    private boolean lazyInitialization;
+    private boolean lazyProxies;
+    private Supplier<? extends InstanceTracker<?>> prototypeTracking;
+    private Duration shutdownTimeout;
+    private Duration componentShutdownTimeout;
+    private boolean asyncPostConstruct;
+    private WarmupPolicy warmupPolicy;
 
     public StardustConfiguration() {}
 
     public static StardustConfiguration base() {
         return new StardustConfiguration()
-                .withRegistry(AbstractProviderContainer.class)
+                .withRegistry(AbstractProviderContainer.DefaultProviderContainer.class)
                 .withPropertiesRegistry(PropertiesRegistryImpl.class)
-                .withNamingStrategy(DefaultNamingStrategy.class);
+                .withNamingStrategy(DefaultNamingStrategy.class)
+                .withProviderStore(ProviderStoreImpl.class);
     }
 
     public StardustConfiguration withRegistry(Class<? extends ProviderContainer> registry) {
@@ -54,6 +72,167 @@ public class StardustConfiguration {
         return this;
     }
 
+    public StardustConfiguration withProviderStore(Class<? extends ProviderStore> providerStore) {
+        return withProviderStoreIf(true, providerStore);
+    }
+
+    public StardustConfiguration withProviderStoreIf(boolean predicate, Class<? extends ProviderStore> providerStore) {
+        if (predicate) {
+            this.providerStore = providerStore;
+        }
+        return this;
+    }
+
+    /**
+     * Creates singletons that do not depend on each other concurrently during startup, on a pool with the given number
+     * of threads. Providers are still registered in the same order as with a sequential startup.
+     *
+     * @param parallelism the number of threads to create singletons on, or {@code 0} to create them one by one
+     * @return this configuration.
+     */
+    public StardustConfiguration withParallelInstantiation(int parallelism) {
+        return withParallelInstantiationIf(true, parallelism);
+    }
+
+    public StardustConfiguration withParallelInstantiationIf(boolean predicate, int parallelism) {
+        if (predicate) {
+            if (parallelism < 0) {
+                throw new IllegalArgumentException("Instantiation parallelism must not be negative");
+            }
+            this.instantiationParallelism = parallelism;
+        }
+        return this;
+    }
+
+    /**
+     * Creates singletons that do not depend on each other concurrently during startup, each on its own virtual thread,
+     * which suits singletons spending their creation waiting on I/O. Providers are still registered in the same order
+     * as with a sequential startup. Takes precedence over {@link #withParallelInstantiation(int)}.
+     *
+     * @return this configuration.
+     */
+    public StardustConfiguration withVirtualThreadInstantiation() {
+        return withVirtualThreadInstantiationIf(true);
+    }
+
+    public StardustConfiguration withVirtualThreadInstantiationIf(boolean predicate) {
+        if (predicate) {
+            this.virtualThreadInstantiation = true;
+        }
+        return this;
+    }
+
+    /**
+     * Creates singletons the first time they are looked up or injected rather than during startup, so that processes
+     * only pay for the singletons they use.
+     *
+     * @return this configuration.
+     */
+    public StardustConfiguration withLazyInitialization() {
+        return withLazyInitializationIf(true);
+    }
+
+    public StardustConfiguration withLazyInitializationIf(boolean predicate) {
+        if (predicate) {
+            this.lazyInitialization = true;
+        }
+        return this;
+    }
+
+    /**
+     * Injects lazy singletons that were not created yet as proxies into parameters typed with a public interface, so
+     * that injecting them does not create them. Only applies along with {@link #withLazyInitialization()}.
+     *
+     * @return this configuration.
+     */
+    public StardustConfiguration withLazyProxies() {
+        return withLazyProxiesIf(true);
+    }
+
+    public StardustConfiguration withLazyProxiesIf(boolean predicate) {
+        if (predicate) {
+            this.lazyProxies = true;
+        }
+        return this;
+    }
+
+    /**
+     * Sets how the instances created by prototypes are tracked, such as {@link InstanceTracker#bounded(int)} to keep
+     * only the most recent ones. Prototypes are tracked {@link InstanceTracker#weak() weakly} by default.
+     *
+     * @param prototypeTracking the supplier of the tracker of each prototype
+     * @return this configuration.
+     */
+    public StardustConfiguration withPrototypeTracking(Supplier<? extends InstanceTracker<?>> prototypeTracking) {
+        return withPrototypeTrackingIf(true, prototypeTracking);
+    }
+
+    public StardustConfiguration withPrototypeTrackingIf(boolean predicate, Supplier<? extends InstanceTracker<?>> prototypeTracking) {
+        if (predicate) {
+            this.prototypeTracking = prototypeTracking;
+        }
+        return this;
+    }
+
+    /**
+     * Bounds how long shutting the container down may take overall, and how long a single component may take to be
+     * destroyed before the shutdown moves on without it.
+     *
+     * @param timeout          the time the whole shutdown may take
+     * @param componentTimeout the time the destruction of a single component may take
+     * @return this configuration.
+     */
+    public StardustConfiguration withShutdownTimeouts(Duration timeout, Duration componentTimeout) {
+        return withShutdownTimeoutsIf(true, timeout, componentTimeout);
+    }
+
+    public StardustConfiguration withShutdownTimeoutsIf(boolean predicate, Duration timeout, Duration componentTimeout) {
+        if (predicate) {
+            if (timeout.isNegative() || componentTimeout.isNegative()) {
+                throw new IllegalArgumentException("Shutdown timeouts must not be negative");
+            }
+            this.shutdownTimeout = timeout;
+            this.componentShutdownTimeout = componentTimeout;
+        }
+        return this;
+    }
+
+    /**
+     * Runs {@link javax.annotation.PostConstruct} methods on virtual threads instead of the startup thread, the
+     * application becoming ready once all of them have finished, see {@link com.w1sh.stardust.Readiness}.
+     *
+     * @return this configuration.
+     */
+    public StardustConfiguration withAsyncPostConstruct() {
+        return withAsyncPostConstructIf(true);
+    }
+
+    public StardustConfiguration withAsyncPostConstructIf(boolean predicate) {
+        if (predicate) {
+            this.asyncPostConstruct = true;
+        }
+        return this;
+    }
+
+    /**
+     * Runs the warm-up hooks of every singleton after startup, in the background and for as long as the given policy
+     * allows, the application only becoming ready once they are done. The warm-up phase is reported to the
+     * {@link com.w1sh.stardust.event.PhaseEventListener phase event listeners} of the application.
+     *
+     * @param warmupPolicy how long the hooks of every component run for
+     * @return this configuration.
+     */
+    public StardustConfiguration withWarmup(WarmupPolicy warmupPolicy) {
+        return withWarmupIf(true, warmupPolicy);
+    }
+
+    public StardustConfiguration withWarmupIf(boolean predicate, WarmupPolicy warmupPolicy) {
+        if (predicate) {
+            this.warmupPolicy = warmupPolicy;
+        }
+        return this;
+    }
+
     public void run(Class<?> primarySource, String... args) {
         new StardustApplication(this, primarySource).run(args);
     }
@@ -69,4 +248,44 @@ public class StardustConfiguration {
     public Class<? extends NamingStrategy> getNamingStrategy() {
         return namingStrategy;
     }
+
+    public Class<? extends ProviderStore> getProviderStore() {
+        return providerStore;
+    }
+
+    public int getInstantiationParallelism() {
+        return instantiationParallelism;
+    }
+
+    public boolean isVirtualThreadInstantiation() {
+        return virtualThreadInstantiation;
+    }
+
+    public boolean isLazyInitialization() {
+        return lazyInitialization;
+    }
+
+    public boolean isLazyProxies() {
+        return lazyProxies;
+    }
+
+    public Supplier<? extends InstanceTracker<?>> getPrototypeTracking() {
+        return prototypeTracking;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public Duration getComponentShutdownTimeout() {
+        return componentShutdownTimeout;
+    }
+
+    public boolean isAsyncPostConstruct() {
+        return asyncPostConstruct;
+    }
+
+    public WarmupPolicy getWarmupPolicy() {
+        return warmupPolicy;
+    }
 }
@@ -0,0 +1,55 @@
+package com.w1sh.stardust.event;
+
+import java.time.Duration;
+
+/**
+ * Published once the warm-up hooks of a single component are done, whether they ran to the end of the warm-up policy
+ * or one of them failed.
+ */
+public class ComponentWarmupEndEvent extends PhaseEvent {
+
+    private final String name;
+    private final int iterations;
+    private final Duration elapsed;
+    private final Throwable failure;
+
+    public ComponentWarmupEndEvent(String name, int iterations, Duration elapsed, Throwable failure) {
+        this.name = name;
+        this.iterations = iterations;
+        this.elapsed = elapsed;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the name the component was registered under.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of times the hooks of the component ran to completion.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns how long the hooks of the component ran for.
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns what a hook of the component threw, or {@code null} if none failed.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public Phase getPhase() {
+        return Phase.WARMUP_COMPONENT_END;
+    }
+}
@@ -3,7 +3,8 @@ package com.w1sh.stardust.event;
 public abstract class PhaseEvent {
 
     public enum Phase {
-        CONFIGURATION_START, CONFIGURATION_END, REGISTRATION_START, REGISTRATION_END
+        CONFIGURATION_START, CONFIGURATION_END, REGISTRATION_START, REGISTRATION_END, WARMUP_START, WARMUP_COMPONENT_END,
+        WARMUP_END
     }
 
     public abstract Phase getPhase();
@@ -0,0 +1,60 @@
+package com.w1sh.stardust.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Multicasts every event to the listeners of its type, on the thread publishing it and in the order the listeners were
+ * added. A listener throwing is logged and does not keep the event from the other listeners.
+ * <br>
+ * The event type of a listener is read once, when it is added. Listeners whose event type cannot be read from their
+ * class, such as lambdas, receive every event unless they override {@link PhaseEventListener#getEventType()}.
+ */
+public class SimplePhaseEventMulticaster implements PhaseEventMulticaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimplePhaseEventMulticaster.class);
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    @Override
+    public <T extends PhaseEvent> void addApplicationListener(PhaseEventListener<T> listener) {
+        registrations.add(new Registration(listener, eventType(listener)));
+    }
+
+    @Override
+    public <T extends PhaseEvent> void removeApplicationListener(PhaseEventListener<T> listener) {
+        registrations.removeIf(registration -> registration.listener() == listener);
+    }
+
+    @Override
+    public void removeAllListeners() {
+        registrations.clear();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends PhaseEvent> void multicast(T event) {
+        for (Registration registration : registrations) {
+            if (!registration.eventType().isInstance(event)) continue;
+            try {
+                ((PhaseEventListener) registration.listener()).onEvent(event);
+            } catch (RuntimeException e) {
+                logger.error("Listener {} failed to handle {}", registration.listener(), event.getPhase(), e);
+            }
+        }
+    }
+
+    private static Class<?> eventType(PhaseEventListener<?> listener) {
+        try {
+            final Class<?> eventType = listener.getEventType();
+            return eventType != null ? eventType : PhaseEvent.class;
+        } catch (RuntimeException e) {
+            return PhaseEvent.class;
+        }
+    }
+
+    private record Registration(PhaseEventListener<?> listener, Class<?> eventType) {}
+}
@@ -0,0 +1,24 @@
+package com.w1sh.stardust.event;
+
+import java.time.Duration;
+
+public class WarmupPhaseEndEvent extends PhaseEvent {
+
+    private final Duration elapsed;
+
+    public WarmupPhaseEndEvent(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns how long the whole warm-up phase took.
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public Phase getPhase() {
+        return Phase.WARMUP_END;
+    }
+}
@@ -0,0 +1,22 @@
+package com.w1sh.stardust.event;
+
+public class WarmupPhaseStartEvent extends PhaseEvent {
+
+    private final int components;
+
+    public WarmupPhaseStartEvent(int components) {
+        this.components = components;
+    }
+
+    /**
+     * Returns the number of components about to be warmed up.
+     */
+    public int getComponents() {
+        return components;
+    }
+
+    @Override
+    public Phase getPhase() {
+        return Phase.WARMUP_START;
+    }
+}
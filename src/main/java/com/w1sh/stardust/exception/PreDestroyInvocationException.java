@@ -0,0 +1,10 @@
+package com.w1sh.stardust.exception;
+
+import java.lang.reflect.Method;
+
+public class PreDestroyInvocationException extends RuntimeException {
+
+    public PreDestroyInvocationException(Method m, Throwable e) {
+        super(String.format("Can't invoke @PreDestroy annotated method %s:%s", m.getDeclaringClass(), m.getName()), e);
+    }
+}
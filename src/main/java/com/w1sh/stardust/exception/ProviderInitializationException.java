@@ -17,4 +17,16 @@ public class ProviderInitializationException extends RuntimeException {
     public static ProviderInitializationException invalidPropertyType() {
         return new ProviderInitializationException("Cannot resolve property. Field annotated as property must be of type String.");
     }
+
+    public static ProviderInitializationException unresolvedHandle(String target) {
+        return new ProviderInitializationException(String.format("No candidate found to bind handle of %s", target));
+    }
+
+    public static ProviderInitializationException instantiation(Throwable cause) {
+        return new ProviderInitializationException("Unable to create an instance of the class", cause);
+    }
+
+    public static ProviderInitializationException notPooled(String provider) {
+        return new ProviderInitializationException(String.format("Cannot bind a pool to %s, provider is not in the pooled scope", provider));
+    }
 }
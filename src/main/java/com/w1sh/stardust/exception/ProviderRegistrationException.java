@@ -1,5 +1,7 @@
 package com.w1sh.stardust.exception;
 
+import java.util.List;
+
 public class ProviderRegistrationException extends RuntimeException {
 
     public ProviderRegistrationException(String message) {
@@ -25,4 +27,19 @@ public class ProviderRegistrationException extends RuntimeException {
         return new ProviderRegistrationException(String.format("%s doesn't have a constructor annotated with @Inject" +
                 " or a no-arg constructor", clazz.getSimpleName()));
     }
+
+    public static ProviderRegistrationException frozen(String name) {
+        return new ProviderRegistrationException(String.format("Failed to register provider with name %s as the " +
+                "store has been frozen and no longer accepts registrations", name));
+    }
+
+    public static ProviderRegistrationException circularDependency(List<String> cycle) {
+        return new ProviderRegistrationException(String.format("Failed to register providers as they depend on each " +
+                "other in a cycle: %s", String.join(" -> ", cycle)));
+    }
+
+    public static ProviderRegistrationException untypedFuture(String methodName) {
+        return new ProviderRegistrationException(String.format("Failed to register provider of method %s as it returns " +
+                "a future without a concrete type argument", methodName));
+    }
 }
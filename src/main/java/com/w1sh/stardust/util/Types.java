@@ -1,7 +1,12 @@
 package com.w1sh.stardust.util;
 
 import javax.annotation.Priority;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 public class Types {
 
@@ -15,4 +20,80 @@ public class Types {
         Priority annotation = clazz.getAnnotation(Priority.class);
         return annotation != null ? annotation.value() : 0;
     }
+
+    /**
+     * Returns a shallow copy of the given array, which may have a primitive component type, so that a cached array can
+     * be handed out without callers being able to modify it.
+     *
+     * @param array the array to copy
+     * @return a new array of the same component type holding the same elements.
+     */
+    @SuppressWarnings("SuspiciousSystemArraycopy")
+    public static Object copyOfArray(Object array) {
+        final int length = Array.getLength(array);
+        final Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * Returns every type a value of the given class can be assigned to, this being the class itself, all of its
+     * superclasses and all the interfaces it implements, directly or indirectly. For any type {@code T} in the returned
+     * set, {@code T.isAssignableFrom(clazz)} is {@code true}.
+     *
+     * @param clazz the class to collect the assignable types of
+     * @return an ordered set starting with the class itself, followed by its supertypes.
+     */
+    public static Set<Class<?>> getAssignableTypes(Class<?> clazz) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        collectAssignableTypes(clazz, types);
+        return types;
+    }
+
+    /**
+     * Returns the types of every annotation present on the given class, including inherited annotations and, transitively,
+     * the annotations present on those annotation types. A class annotated with {@code @Module} will therefore also report
+     * {@code @Provide}. Annotations from the {@code java.lang.annotation} package are left out.
+     *
+     * @param clazz the class to collect the annotation types of
+     * @return an ordered set with the annotation types directly present first, followed by their meta-annotations.
+     */
+    public static Set<Class<? extends Annotation>> getAnnotationTypes(Class<?> clazz) {
+        final Set<Class<? extends Annotation>> annotationTypes = new LinkedHashSet<>();
+        collectAnnotationTypes(clazz, annotationTypes);
+        return annotationTypes;
+    }
+
+    private static void collectAnnotationTypes(Class<?> element, Set<Class<? extends Annotation>> annotationTypes) {
+        for (Annotation annotation : element.getAnnotations()) {
+            final Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.getPackageName().equals("java.lang.annotation")) continue;
+            if (annotationTypes.add(annotationType)) {
+                collectAnnotationTypes(annotationType, annotationTypes);
+            }
+        }
+    }
+
+    private static void collectAssignableTypes(Class<?> clazz, Set<Class<?>> types) {
+        if (clazz == null || !types.add(clazz)) return;
+        if (clazz.isArray()) {
+            final Class<?> componentType = clazz.getComponentType();
+            if (!componentType.isPrimitive()) {
+                for (Class<?> type : getAssignableTypes(componentType)) {
+                    types.add(type.arrayType());
+                }
+            }
+            types.add(Object.class);
+            types.add(Cloneable.class);
+            types.add(Serializable.class);
+            return;
+        }
+        collectAssignableTypes(clazz.getSuperclass(), types);
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            collectAssignableTypes(anInterface, types);
+        }
+        if (clazz.isInterface()) {
+            types.add(Object.class);
+        }
+    }
 }
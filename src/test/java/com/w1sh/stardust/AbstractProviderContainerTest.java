@@ -1,9 +1,12 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.annotation.Inject;
 import com.w1sh.stardust.annotation.Module;
+import com.w1sh.stardust.annotation.Pool;
 import com.w1sh.stardust.annotation.Primary;
 import com.w1sh.stardust.annotation.Profile;
 import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.binding.Pooled;
 import com.w1sh.stardust.example.controller.CalculatorController;
 import com.w1sh.stardust.example.controller.impl.*;
 import com.w1sh.stardust.example.service.CalculatorService;
@@ -11,16 +14,24 @@ import com.w1sh.stardust.example.service.MerchantService;
 import com.w1sh.stardust.example.service.impl.CalculatorServiceImpl;
 import com.w1sh.stardust.example.service.impl.DuplicateCalculatorServiceImpl;
 import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import com.w1sh.stardust.example.service.impl.PrototypeServiceImpl;
+import com.w1sh.stardust.exception.ComponentCreationException;
 import com.w1sh.stardust.exception.ProviderCandidatesException;
+import com.w1sh.stardust.exception.ProviderInitializationException;
 import com.w1sh.stardust.exception.ProviderRegistrationException;
 import com.w1sh.stardust.health.HealthProbe;
+import com.w1sh.stardust.health.Probe;
 import com.w1sh.stardust.health.ProbeResult;
 import com.w1sh.stardust.health.probe.ApplicationHealthProbe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +44,15 @@ class AbstractProviderContainerTest {
         registry = AbstractProviderContainer.base();
     }
 
+    @Test
+    void should_fallBackToDefaults_whenNamingStrategyAndStoreAreNull() {
+        AbstractProviderContainer container = new AbstractProviderContainer.DefaultProviderContainer(null, null);
+        container.register(DuplicateCalculatorServiceImpl.class);
+
+        assertNotNull(container.instance(DuplicateCalculatorServiceImpl.class));
+        assertNotNull(container.instance(ProviderStore.class));
+    }
+
     @Test
     void should_returnInstance_whenProviderOfClassIsRegistered() {
         registry.register(DuplicateCalculatorServiceImpl.class);
@@ -90,6 +110,18 @@ class AbstractProviderContainerTest {
         assertEquals(CalculatorControllerImpl.class, classes.get(0));
     }
 
+    @Test
+    void should_returnClassesAnnotatedThroughMetaAnnotation_whenGivenAnnotation() {
+        registry.register(ApplicationHealthProbe.class);
+        registry.register(ModuleTestingClass.class);
+
+        List<Class<?>> classes = registry.getAllAnnotatedWith(Provide.class);
+
+        assertTrue(classes.contains(ApplicationHealthProbe.class));
+        assertTrue(classes.contains(ModuleTestingClass.class));
+        assertEquals(List.of(ApplicationHealthProbe.class), registry.getAllAnnotatedWith(Probe.class));
+    }
+
     @Test
     void should_returnPrimaryInstanceOrProvider_whenMultipleProvidersAreRegisteredAndOneIsPrimary() {
         registry.register(CalculatorControllerImpl.class);
@@ -228,6 +260,110 @@ class AbstractProviderContainerTest {
         assertNotNull(controller.getMerchantService());
     }
 
+    @Test
+    void should_injectDependency_whenDependencyIsGivenAfterDependant() {
+        registry.registerAll(List.of(RequiredDependantControllerImpl.class, MerchantServiceImpl.class));
+
+        RequiredDependantControllerImpl controller = registry.instance(RequiredDependantControllerImpl.class);
+
+        assertNotNull(controller);
+        assertNotNull(controller.getMerchantService());
+    }
+
+    @Test
+    void should_registerInSameOrderAsSequentialRegistration_whenRegisteringInParallel() {
+        final List<Class<?>> classes = List.of(RequiredDependantControllerImpl.class, CalculatorServiceImpl.class,
+                PrototypeServiceImpl.class, MerchantServiceImpl.class);
+        final AbstractProviderContainer parallel = AbstractProviderContainer.base();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        registry.registerAll(classes);
+        try {
+            parallel.registerAll(classes, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        RequiredDependantControllerImpl controller = parallel.instance(RequiredDependantControllerImpl.class);
+        assertNotNull(controller.getMerchantService());
+        assertEquals(registeredClasses(registry), registeredClasses(parallel));
+    }
+
+    @Test
+    void should_reportFailedProvidersAndRegisterIndependentOnes_whenRegisteringInParallelFails() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        ComponentCreationException exception;
+        try {
+            exception = assertThrows(ComponentCreationException.class, () -> registry.registerAll(
+                    List.of(FailingService.class, FailingServiceDependant.class, MerchantServiceImpl.class), pool));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(exception.getMessage().contains("failingService"), exception.getMessage());
+        assertFalse(registry.contains(FailingServiceDependant.class));
+        assertNotNull(registry.instance(MerchantServiceImpl.class));
+    }
+
+    @Test
+    void should_createSingletonOnFirstLookup_whenLazyInitializationIsEnabled() {
+        registry.setLazyInitialization(true);
+        registry.registerAll(List.of(MerchantServiceImpl.class, FailingService.class));
+
+        LazySingletonObjectProvider<?> provider = (LazySingletonObjectProvider<?>) registry.provider(MerchantServiceImpl.class);
+        assertFalse(provider.isInitialized());
+        assertTrue(provider.instances().isEmpty());
+
+        MerchantServiceImpl instance = registry.instance(MerchantServiceImpl.class);
+
+        assertTrue(provider.isInitialized());
+        assertSame(instance, registry.instance(MerchantServiceImpl.class));
+    }
+
+    @Test
+    void should_createDependencyWithDependant_whenLazyProxiesAreDisabled() {
+        registry.setLazyInitialization(true);
+        registry.registerAll(List.of(MerchantServiceImpl.class, RequiredDependantControllerImpl.class));
+
+        RequiredDependantControllerImpl controller = registry.instance(RequiredDependantControllerImpl.class);
+
+        assertTrue(((LazySingletonObjectProvider<?>) registry.provider(MerchantServiceImpl.class)).isInitialized());
+        assertSame(registry.instance(MerchantServiceImpl.class), controller.getMerchantService());
+    }
+
+    @Test
+    void should_injectProxyAndCreateDependencyOnFirstCall_whenLazyProxiesAreEnabled() {
+        registry.setLazyInitialization(true);
+        registry.setLazyProxies(true);
+        registry.registerAll(List.of(MerchantServiceImpl.class, RequiredDependantControllerImpl.class));
+
+        RequiredDependantControllerImpl controller = registry.instance(RequiredDependantControllerImpl.class);
+        LazySingletonObjectProvider<?> provider = (LazySingletonObjectProvider<?>) registry.provider(MerchantServiceImpl.class);
+
+        assertTrue(Proxy.isProxyClass(controller.getMerchantService().getClass()));
+        assertFalse(provider.isInitialized());
+        assertEquals(registry.instance(MerchantServiceImpl.class).toString(), controller.getMerchantService().toString());
+        assertTrue(provider.isInitialized());
+    }
+
+    @Test
+    void should_notCreateDependency_whenComparingOrHashingLazyProxy() {
+        registry.setLazyInitialization(true);
+        registry.setLazyProxies(true);
+        registry.registerAll(List.of(MerchantServiceImpl.class, RequiredDependantControllerImpl.class));
+
+        MerchantService proxy = registry.instance(RequiredDependantControllerImpl.class).getMerchantService();
+        LazySingletonObjectProvider<?> provider = (LazySingletonObjectProvider<?>) registry.provider(MerchantServiceImpl.class);
+
+        assertEquals(proxy, proxy);
+        assertEquals(System.identityHashCode(proxy), proxy.hashCode());
+        assertFalse(proxy.equals(new MerchantServiceImpl()));
+        assertFalse(provider.isInitialized());
+        assertNotEquals(proxy, registry.instance(MerchantServiceImpl.class));
+        assertNotEquals(registry.instance(MerchantServiceImpl.class), proxy);
+    }
+
     @Test
     void should_returnArrayInstance_whenRegisteredArrayIsProviderViaModule() {
         registry.register(ModuleTestingClass.class);
@@ -305,6 +441,29 @@ class AbstractProviderContainerTest {
         assertEquals(1, allInterceptorsOfType.size());
     }
 
+    @Test
+    void should_returnInterceptorsSortedByPriority_whenInterceptorsAreAdded() {
+        final var setterInterceptor = new SetterInjectionPostConstructInterceptor(null);
+        final var postConstructInterceptor = new JakartaPostConstructInterceptor();
+        registry.addInterceptor(setterInterceptor);
+        registry.addInterceptor(postConstructInterceptor);
+
+        List<InvocationInterceptor> interceptors = registry.getAllInterceptorsOfType(InvocationInterceptor.InvocationType.POST_CONSTRUCT);
+
+        assertEquals(List.of(postConstructInterceptor, setterInterceptor), interceptors);
+    }
+
+    @Test
+    void should_skipInterceptor_whenInterceptorDoesNotApplyToClass() {
+        final var interceptor = new SelectiveInterceptor();
+        registry.addInterceptor(interceptor);
+
+        registry.register(DuplicateCalculatorServiceImpl.class);
+        registry.register(MerchantServiceImpl.class);
+
+        assertEquals(List.of(MerchantServiceImpl.class), interceptor.intercepted);
+    }
+
     @Test
     void should_throwProviderRegistrationException_whenRegisteringProbeWithNoAnnotation() {
         assertThrows(ProviderRegistrationException.class, () -> registry.register(MalformedProbe.class));
@@ -319,6 +478,128 @@ class AbstractProviderContainerTest {
         assertNotNull(instance);
     }
 
+    @Test
+    void should_throwProviderRegistrationException_whenRegisteringAfterContainerIsFrozen() {
+        registry.register(MerchantServiceImpl.class);
+
+        registry.freeze();
+
+        assertTrue(registry.isFrozen());
+        assertNotNull(registry.instance(MerchantService.class));
+        assertThrows(ProviderRegistrationException.class, () -> registry.register(CalculatorControllerImpl.class));
+    }
+
+    @Test
+    void should_returnSameInstance_whenResolvingSingletonThroughHandle() {
+        ProviderHandle<MerchantService> handle = registry.handle(MerchantService.class);
+        registry.register(MerchantServiceImpl.class);
+
+        MerchantService first = handle.get();
+        MerchantService second = handle.get();
+
+        assertTrue(handle.isResolved());
+        assertSame(first, second);
+        assertSame(registry.instance(MerchantService.class), first);
+    }
+
+    @Test
+    void should_returnNewInstances_whenResolvingPrototypeThroughHandle() {
+        registry.register(PrototypeServiceImpl.class);
+        ProviderHandle<PrototypeServiceImpl> handle = registry.handle("prototypeServiceImpl");
+
+        PrototypeServiceImpl first = handle.newInstance();
+        PrototypeServiceImpl second = handle.newInstance();
+
+        assertNotSame(first, second);
+        assertSame(registry.provider(PrototypeServiceImpl.class), handle.provider());
+    }
+
+    @Test
+    void should_notTrackPrototypeInstances_whenNoPreDestroyInterceptorApplies() {
+        registry.register(PrototypeServiceImpl.class);
+        ObjectProvider<PrototypeServiceImpl> provider = registry.provider(PrototypeServiceImpl.class);
+
+        PrototypeServiceImpl first = provider.newInstance();
+        provider.newInstance();
+
+        assertEquals(List.of(first), provider.instances());
+    }
+
+    @Test
+    void should_trackPrototypeInstances_whenPreDestroyInterceptorApplies() {
+        registry.addInterceptor(new JakartaPreDestroyInterceptor());
+        registry.setPrototypeTracking(() -> InstanceTracker.bounded(1));
+        registry.register(DestroyablePrototype.class);
+        ObjectProvider<DestroyablePrototype> provider = registry.provider(DestroyablePrototype.class);
+
+        DestroyablePrototype first = provider.newInstance();
+        provider.newInstance();
+        DestroyablePrototype latest = provider.newInstance();
+
+        assertEquals(List.of(first, latest), provider.instances());
+    }
+
+    @Test
+    void should_injectPoolBoundedByAnnotation_whenScopeIsPooled() {
+        registry.register(PooledParser.class);
+        registry.register(ParserClient.class);
+        Pooled<PooledParser> parsers = registry.instance(ParserClient.class).parsers;
+
+        PooledParser first = parsers.get();
+        PooledParser second = parsers.get();
+        parsers.release(first);
+        parsers.release(second);
+
+        assertInstanceOf(PooledObjectProvider.class, registry.provider(PooledParser.class));
+        assertEquals(new PoolMetrics(1, 1, 0, 2, 0, 1), parsers.metrics());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_destroyDroppedInstances_whenPoolDiscardsThem() {
+        registry.addInterceptor(new JakartaPreDestroyInterceptor());
+        registry.register(PooledParser.class);
+        PooledObjectProvider<PooledParser> provider = (PooledObjectProvider<PooledParser>) registry.provider(PooledParser.class);
+
+        PooledParser parser = provider.borrow();
+        provider.invalidate(parser);
+
+        assertTrue(parser.destroyed);
+    }
+
+    @Test
+    void should_throwProviderInitializationException_whenHandleCannotBeResolved() {
+        ProviderHandle<MerchantService> handle = registry.handle(MerchantService.class);
+
+        assertThrows(ProviderInitializationException.class, handle::get);
+        assertFalse(handle.isResolved());
+    }
+
+    @Test
+    void should_lookProviderUpAgain_whenHandleProviderIsOverridden() {
+        registry.register(MerchantServiceImpl.class);
+        ProviderHandle<MerchantServiceImpl> handle = registry.handle("merchantServiceImpl");
+        ObjectProvider<MerchantServiceImpl> overridden = handle.provider();
+
+        registry.register(MerchantServiceImpl.class);
+
+        assertFalse(handle.isResolved());
+        assertNotSame(overridden, handle.provider());
+        assertSame(registry.provider("merchantServiceImpl"), handle.provider());
+        assertTrue(handle.isResolved());
+    }
+
+    @Test
+    void should_throwProviderInitializationException_whenHandleIsUsedAfterShutdown() {
+        registry.register(MerchantServiceImpl.class);
+        ProviderHandle<MerchantService> handle = registry.handle(MerchantService.class);
+        handle.get();
+
+        registry.shutdown();
+
+        assertThrows(ProviderInitializationException.class, handle::get);
+    }
+
     private static class MalformedProbe implements HealthProbe {
 
         public MalformedProbe() {}
@@ -376,4 +657,73 @@ class AbstractProviderContainerTest {
             return Map.of("service1", 1, "service2", 2);
         }
     }
-}
\ No newline at end of file
+
+    private static class SelectiveInterceptor implements InvocationInterceptor {
+
+        private final List<Class<?>> intercepted = new ArrayList<>();
+
+        @Override
+        public void intercept(Object instance) {
+            intercepted.add(instance.getClass());
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> type) {
+            return MerchantServiceImpl.class.equals(type);
+        }
+
+        @Override
+        public InvocationType getInterceptorType() {
+            return InvocationType.POST_CONSTRUCT;
+        }
+    }
+
+    private static List<Class<?>> registeredClasses(AbstractProviderContainer container) {
+        return container.instance(ProviderStore.class).getAll().stream()
+                .map(provider -> provider.singletonInstance().getClass())
+                .<Class<?>>map(clazz -> clazz)
+                .toList();
+    }
+
+    public static class FailingService {
+
+        public FailingService() {
+            throw new IllegalStateException("Unable to start");
+        }
+    }
+
+    public static class FailingServiceDependant {
+
+        @Inject
+        public FailingServiceDependant(FailingService failingService) {}
+    }
+
+    @Provide(scope = Scope.PROTOTYPE)
+    public static class DestroyablePrototype {
+
+        @PreDestroy
+        public void destroy() {}
+    }
+
+    @Pool(maxSize = 1)
+    @Provide(scope = Scope.POOLED)
+    public static class PooledParser {
+
+        private boolean destroyed;
+
+        @PreDestroy
+        public void destroy() {
+            destroyed = true;
+        }
+    }
+
+    public static class ParserClient {
+
+        private final Pooled<PooledParser> parsers;
+
+        @Inject
+        public ParserClient(Pooled<PooledParser> parsers) {
+            this.parsers = parsers;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.exception.PostConstructInvocationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPostConstructInterceptorTest {
+
+    private static CountDownLatch release;
+
+    private AbstractProviderContainer container;
+    private Readiness readiness;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(1);
+        container = AbstractProviderContainer.base();
+        readiness = container.instance(Readiness.class);
+        container.addInterceptor(new AsyncPostConstructInterceptor(readiness));
+    }
+
+    @Test
+    void should_notWaitForPostConstruct_whenRegistering() {
+        container.register(WarmCache.class);
+        container.freeze();
+
+        WarmCache cache = container.instance(WarmCache.class);
+        assertFalse(cache.warm);
+        assertFalse(readiness.isReady());
+
+        release.countDown();
+
+        assertTrue(readiness.awaitInitialized(cache).warm);
+        readiness.whenReady().join();
+        assertTrue(readiness.isReady());
+    }
+
+    @Test
+    void should_notBeReady_untilFrozen() throws Exception {
+        container.register(WarmCache.class);
+        release.countDown();
+        readiness.awaitInitialized(container.instance(WarmCache.class));
+
+        assertFalse(readiness.isReady());
+
+        container.freeze();
+
+        assertTrue(readiness.isReady());
+        readiness.whenReady().get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void should_failReadiness_whenPostConstructThrows() {
+        container.register(BrokenCache.class);
+        container.freeze();
+
+        BrokenCache cache = container.instance(BrokenCache.class);
+
+        assertThrows(PostConstructInvocationException.class, () -> readiness.awaitInitialized(cache));
+        CompletionException exception = assertThrows(CompletionException.class, () -> readiness.whenReady().join());
+        assertInstanceOf(PostConstructInvocationException.class, exception.getCause());
+        assertFalse(readiness.isReady());
+    }
+
+    @Test
+    void should_returnImmediately_whenInstanceHasNoInitializer() {
+        Object instance = new Object();
+
+        assertSame(instance, readiness.awaitInitialized(instance));
+    }
+
+    @Test
+    void should_runPostConstructInline_whenInstanceIsPrototype() {
+        container.register(PrototypeCache.class);
+
+        assertTrue(container.instance(PrototypeCache.class).warm);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_runPostConstructInline_whenInstanceIsPooled() {
+        container.register(PooledCache.class);
+        container.freeze();
+
+        PooledObjectProvider<PooledCache> provider = (PooledObjectProvider<PooledCache>) container.provider(PooledCache.class);
+
+        assertTrue(provider.borrow().warm);
+    }
+
+    @Test
+    void should_runPostConstructInline_whenSingletonIsCreatedAfterFreeze() {
+        container.setLazyInitialization(true);
+        container.register(LazyCache.class);
+        container.freeze();
+
+        assertTrue(container.instance(LazyCache.class).warm);
+        assertTrue(readiness.isReady());
+    }
+
+    public static class WarmCache {
+
+        private volatile boolean warm;
+
+        public WarmCache() {}
+
+        @PostConstruct
+        public void warmUp() throws InterruptedException {
+            release.await();
+            warm = true;
+        }
+    }
+
+    public static class BrokenCache {
+
+        public BrokenCache() {}
+
+        @PostConstruct
+        public void warmUp() {
+            throw new IllegalStateException("cache unavailable");
+        }
+    }
+
+    @Provide(scope = Scope.PROTOTYPE)
+    public static class PrototypeCache {
+
+        private boolean warm;
+
+        @PostConstruct
+        public void warmUp() {
+            warm = true;
+        }
+    }
+
+    @Provide(scope = Scope.POOLED)
+    public static class PooledCache {
+
+        private boolean warm;
+
+        @PostConstruct
+        public void warmUp() {
+            warm = true;
+        }
+    }
+
+    public static class LazyCache {
+
+        private boolean warm;
+
+        @PostConstruct
+        public void warmUp() {
+            warm = true;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Inject;
+import com.w1sh.stardust.annotation.Module;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.exception.ComponentCreationException;
+import com.w1sh.stardust.exception.ProviderRegistrationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncProvideMethodTest {
+
+    private static final long FACTORY_MILLIS = 300;
+    private static final AtomicInteger invocations = new AtomicInteger();
+    /**
+     * An asynchronous factory, a dependent of it and another asynchronous factory waiting for the first, in this order.
+     */
+    private static final List<Class<?>> INTERLEAVED = List.of(InventoryModule.class, Shelf.class, PricesModule.class);
+    private static CountDownLatch started;
+
+    private AbstractProviderContainer container;
+
+    @BeforeEach
+    void setUp() {
+        invocations.set(0);
+        started = new CountDownLatch(2);
+        container = AbstractProviderContainer.base();
+    }
+
+    @Test
+    void should_registerUnderFutureType_whenProvideMethodReturnsCompletableFuture() {
+        container.register(AsyncModule.class);
+
+        Report report = container.instance(Report.class);
+
+        assertNotNull(report);
+        assertSame(container.instance(Inventory.class), report.inventory());
+        assertSame(container.instance(Prices.class), report.prices());
+        assertFalse(container.contains(CompletableFuture.class));
+    }
+
+    @Test
+    void should_startEveryFactory_whenDependentIsBetweenAsyncFactories() {
+        container.registerAll(INTERLEAVED);
+
+        assertNotNull(container.instance(Shelf.class));
+        assertNotNull(container.instance(Prices.class));
+        assertEquals(0, started.getCount());
+    }
+
+    @Test
+    void should_startEveryFactory_whenRegisteringInParallel() {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            container.registerAll(INTERLEAVED, executor);
+        }
+
+        assertNotNull(container.instance(Shelf.class));
+        assertNotNull(container.instance(Prices.class));
+        assertEquals(0, started.getCount());
+    }
+
+    @Test
+    void should_registerUnderFutureType_whenProvideMethodReturnsFuture() {
+        container.register(PlainFutureModule.class);
+
+        assertNotNull(container.instance(Inventory.class));
+    }
+
+    @Test
+    void should_throwComponentCreationException_whenFutureCompletesExceptionally() {
+        ComponentCreationException exception = assertThrows(ComponentCreationException.class,
+                () -> container.register(FailingModule.class));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause().getCause());
+    }
+
+    @Test
+    void should_throwProviderRegistrationException_whenFutureIsRaw() {
+        assertThrows(ProviderRegistrationException.class, () -> container.register(RawFutureModule.class));
+    }
+
+    @Test
+    void should_notInvokeFactory_whenLazyInitializationIsEnabled() {
+        container.setLazyInitialization(true);
+        container.register(AsyncModule.class);
+
+        assertEquals(0, invocations.get());
+        assertNotNull(container.instance(Report.class));
+        assertEquals(2, invocations.get());
+    }
+
+    private static <T> T slowly(T value) {
+        invocations.incrementAndGet();
+        try {
+            Thread.sleep(FACTORY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    /**
+     * Completes only once both factories of the {@link #INTERLEAVED} classes were invoked, so the registration fails unless
+     * they overlap.
+     */
+    private static <T> CompletableFuture<T> overlapping(T value) {
+        started.countDown();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Factories did not overlap");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return value;
+        }, Thread::startVirtualThread);
+    }
+
+    public static class Inventory {}
+
+    public static class Prices {}
+
+    public record Report(Inventory inventory, Prices prices) {}
+
+    public static class Shelf {
+
+        @Inject
+        public Shelf(Inventory inventory) {}
+    }
+
+    @Module
+    private static class AsyncModule {
+
+        public AsyncModule() {}
+
+        @Provide
+        public CompletableFuture<Inventory> inventory() {
+            return CompletableFuture.supplyAsync(() -> slowly(new Inventory()));
+        }
+
+        @Provide
+        public CompletableFuture<Prices> prices() {
+            return CompletableFuture.supplyAsync(() -> slowly(new Prices()));
+        }
+
+        @Provide
+        public Report report(Inventory inventory, Prices prices) {
+            return new Report(inventory, prices);
+        }
+    }
+
+    @Module
+    private static class InventoryModule {
+
+        public InventoryModule() {}
+
+        @Provide
+        public CompletableFuture<Inventory> inventory() {
+            return overlapping(new Inventory());
+        }
+    }
+
+    @Module
+    private static class PricesModule {
+
+        public PricesModule() {}
+
+        @Provide
+        public CompletableFuture<Prices> prices() {
+            return overlapping(new Prices());
+        }
+    }
+
+    @Module
+    private static class PlainFutureModule {
+
+        public PlainFutureModule() {}
+
+        @Provide
+        public Future<Inventory> inventory() {
+            final FutureTask<Inventory> task = new FutureTask<>(Inventory::new);
+            Thread.startVirtualThread(task);
+            return task;
+        }
+    }
+
+    @Module
+    private static class FailingModule {
+
+        public FailingModule() {}
+
+        @Provide
+        public CompletableFuture<Inventory> inventory() {
+            return CompletableFuture.failedFuture(new IllegalStateException("inventory unavailable"));
+        }
+    }
+
+    @Module
+    private static class RawFutureModule {
+
+        public RawFutureModule() {}
+
+        @Provide
+        @SuppressWarnings("rawtypes")
+        public CompletableFuture inventory() {
+            return CompletableFuture.completedFuture(new Inventory());
+        }
+    }
+}
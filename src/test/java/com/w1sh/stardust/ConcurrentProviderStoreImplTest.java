@@ -0,0 +1,90 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.example.service.CalculatorService;
+import com.w1sh.stardust.example.service.MerchantService;
+import com.w1sh.stardust.example.service.impl.DuplicateCalculatorServiceImpl;
+import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import com.w1sh.stardust.exception.ProviderRegistrationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentProviderStoreImplTest {
+
+    private ConcurrentProviderStoreImpl store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ConcurrentProviderStoreImpl();
+    }
+
+    @Test
+    void should_returnProvider_whenRegisteredWithNameAndLookedUpBySupertype() {
+        SingletonObjectProvider<MerchantServiceImpl> provider = new SingletonObjectProvider<>(new MerchantServiceImpl());
+        store.register("merchant", MerchantServiceImpl.class, provider);
+
+        assertEquals(provider, store.get("merchant"));
+        assertEquals(List.of(provider), store.get(MerchantService.class));
+        assertTrue(store.get(CalculatorService.class).isEmpty());
+    }
+
+    @Test
+    void should_keepRegistrationOrder_whenProviderIsOverridden() {
+        SingletonObjectProvider<DuplicateCalculatorServiceImpl> first = new SingletonObjectProvider<>(new DuplicateCalculatorServiceImpl());
+        SingletonObjectProvider<MerchantServiceImpl> second = new SingletonObjectProvider<>(new MerchantServiceImpl());
+        SingletonObjectProvider<MerchantServiceImpl> replacement = new SingletonObjectProvider<>(new MerchantServiceImpl());
+        store.register("first", DuplicateCalculatorServiceImpl.class, first);
+        store.register("second", MerchantServiceImpl.class, second);
+
+        store.register("first", MerchantServiceImpl.class, replacement);
+
+        assertEquals(List.of(replacement, second), store.getAll());
+        assertEquals(List.of(replacement, second), store.get(MerchantService.class));
+        assertTrue(store.get(CalculatorService.class).isEmpty());
+    }
+
+    @Test
+    void should_throwProviderRegistrationException_whenRegisteringWithExistingNameAndOverridingNotAllowed() {
+        store.setAllowOverride(false);
+        store.register("duplicate", DuplicateCalculatorServiceImpl.class, new SingletonObjectProvider<>(new DuplicateCalculatorServiceImpl()));
+
+        assertThrows(ProviderRegistrationException.class, () -> store.register("duplicate", MerchantService.class, new SingletonObjectProvider<>(new MerchantServiceImpl())));
+    }
+
+    @Test
+    void should_registerAllProviders_whenRegisteringFromManyThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 1000)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> store.register("merchant" + i,
+                            MerchantServiceImpl.class, new SingletonObjectProvider<>(new MerchantServiceImpl()))))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1000, store.count());
+        assertEquals(1000, store.get(MerchantService.class).size());
+        assertEquals(store.getAll(), store.get(MerchantService.class));
+    }
+
+    @Test
+    void should_throwProviderRegistrationException_whenRegisteringAfterStoreIsFrozen() {
+        store.register("merchant", MerchantServiceImpl.class, new SingletonObjectProvider<>(new MerchantServiceImpl()));
+
+        store.freeze();
+
+        assertEquals(1, store.get(MerchantService.class).size());
+        assertThrows(ProviderRegistrationException.class, () -> store.register("other", MerchantService.class, new SingletonObjectProvider<>(new MerchantServiceImpl())));
+    }
+}
@@ -0,0 +1,180 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.ShutdownReport.ComponentShutdown;
+import com.w1sh.stardust.ShutdownReport.Status;
+import com.w1sh.stardust.annotation.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContainerShutdownTest {
+
+    private static final Queue<String> destroyed = new ConcurrentLinkedQueue<>();
+
+    private AbstractProviderContainer container;
+
+    @BeforeEach
+    void setUp() {
+        destroyed.clear();
+        container = AbstractProviderContainer.base();
+        container.addInterceptor(new JakartaPreDestroyInterceptor());
+    }
+
+    @Test
+    void should_destroyDependantsBeforeDependencies_whenShuttingDown() {
+        container.registerAll(List.of(Database.class, Repository.class));
+        container.register(Service.class);
+        container.freeze();
+
+        ShutdownReport report = container.shutdown();
+
+        assertTrue(report.isComplete());
+        assertEquals(List.of("service", "repository", "database"), List.copyOf(destroyed));
+        assertFalse(container.contains(Database.class));
+    }
+
+    @Test
+    void should_destroyIndependentComponentsConcurrently_whenShuttingDown() {
+        container.registerAll(List.of(SlowResource.class, OtherSlowResource.class));
+
+        ShutdownReport report = container.shutdown();
+
+        assertTrue(report.isComplete());
+        assertEquals(2, report.components().size());
+        assertTrue(report.elapsed().compareTo(Duration.ofMillis(2 * SlowResource.DESTROY_MILLIS)) < 0, report.toString());
+    }
+
+    @Test
+    void should_moveOnToDependencies_whenComponentTimesOut() {
+        container.setShutdownTimeouts(Duration.ofSeconds(5), Duration.ofMillis(100));
+        container.registerAll(List.of(Database.class, HangingClient.class));
+
+        ShutdownReport report = container.shutdown();
+
+        Map<String, Status> statuses = statuses(report);
+        assertEquals(Status.TIMED_OUT, statuses.get("hangingClient"));
+        assertEquals(Status.DESTROYED, statuses.get("database"));
+        assertTrue(report.elapsed().compareTo(Duration.ofSeconds(5)) < 0, report.toString());
+    }
+
+    @Test
+    void should_abandonRemainingComponents_whenShutdownTimesOut() {
+        container.setShutdownTimeouts(Duration.ofMillis(100), Duration.ofSeconds(5));
+        container.registerAll(List.of(Database.class, HangingClient.class));
+
+        ShutdownReport report = container.shutdown();
+
+        Map<String, Status> statuses = statuses(report);
+        assertFalse(report.isComplete());
+        assertEquals(Status.ABANDONED, statuses.get("hangingClient"));
+        assertEquals(Status.ABANDONED, statuses.get("database"));
+        assertFalse(destroyed.contains("database"));
+    }
+
+    @Test
+    void should_reportFailureAndDestroyDependencies_whenComponentFailsToBeDestroyed() {
+        container.registerAll(List.of(Database.class, FailingClient.class));
+
+        ShutdownReport report = container.shutdown();
+
+        ComponentShutdown failed = report.components().stream()
+                .filter(component -> component.name().equals("failingClient"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Status.FAILED, failed.status());
+        assertNotNull(failed.failure());
+        assertEquals(Status.DESTROYED, statuses(report).get("database"));
+    }
+
+    private static Map<String, Status> statuses(ShutdownReport report) {
+        return report.components().stream()
+                .collect(Collectors.toMap(ComponentShutdown::name, ComponentShutdown::status));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class Database {
+
+        @PreDestroy
+        public void close() {
+            destroyed.add("database");
+        }
+    }
+
+    public static class Repository {
+
+        @Inject
+        public Repository(Database database) {}
+
+        @PreDestroy
+        public void close() {
+            destroyed.add("repository");
+        }
+    }
+
+    public static class Service {
+
+        @Inject
+        public Service(Repository repository) {}
+
+        @PreDestroy
+        public void close() {
+            destroyed.add("service");
+        }
+    }
+
+    public static class SlowResource {
+
+        static final long DESTROY_MILLIS = 300;
+
+        @PreDestroy
+        public void close() {
+            sleep(DESTROY_MILLIS);
+        }
+    }
+
+    public static class OtherSlowResource {
+
+        @PreDestroy
+        public void close() {
+            sleep(SlowResource.DESTROY_MILLIS);
+        }
+    }
+
+    public static class HangingClient {
+
+        @Inject
+        public HangingClient(Database database) {}
+
+        @PreDestroy
+        public void close() {
+            sleep(10_000);
+        }
+    }
+
+    public static class FailingClient {
+
+        @Inject
+        public FailingClient(Database database) {}
+
+        @PreDestroy
+        public void close() {
+            throw new IllegalStateException("Unable to close");
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Inject;
+import com.w1sh.stardust.annotation.Module;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.example.controller.CalculatorController;
+import com.w1sh.stardust.example.controller.impl.RequiredDependantControllerImpl;
+import com.w1sh.stardust.example.service.MerchantService;
+import com.w1sh.stardust.example.service.impl.CalculatorServiceImpl;
+import com.w1sh.stardust.example.service.impl.CircularDependantClass;
+import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import com.w1sh.stardust.exception.ProviderRegistrationException;
+import com.w1sh.stardust.naming.DefaultNamingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyGraphTest {
+
+    private final DefaultNamingStrategy namingStrategy = new DefaultNamingStrategy();
+
+    @Test
+    void should_orderDependenciesFirst_whenDependantIsGivenFirst() {
+        DependencyGraph graph = DependencyGraph.of(List.of(RequiredDependantControllerImpl.class, MerchantServiceImpl.class),
+                namingStrategy);
+
+        assertEquals(List.of("merchantServiceImpl", "requiredDependantControllerImpl"), names(graph.order()));
+    }
+
+    @Test
+    void should_keepGivenOrder_whenClassesAreIndependent() {
+        DependencyGraph graph = DependencyGraph.of(List.of(CalculatorServiceImpl.class, MerchantServiceImpl.class),
+                namingStrategy);
+
+        assertEquals(List.of("calculatorServiceImpl", "merchantServiceImpl"), names(graph.order()));
+    }
+
+    @Test
+    void should_orderProvideMethodsAfterModuleAndTheirDependencies() {
+        DependencyGraph graph = DependencyGraph.of(List.of(ReversedModule.class), namingStrategy);
+
+        assertEquals(List.of("reversedModule", "service", "controller"), names(graph.order()));
+        assertEquals(List.of("reversedModule", "service"), names(graph.order().get(2).dependencies()));
+    }
+
+    @Test
+    void should_placeDeferredNodesLast_whenOtherNodesAreReady() {
+        DependencyGraph graph = DependencyGraph.of(List.of(MerchantServiceImpl.class, RequiredDependantControllerImpl.class,
+                CalculatorServiceImpl.class), namingStrategy);
+
+        List<DependencyGraph.Node> order = graph.order(node -> node.name().equals("requiredDependantControllerImpl"));
+
+        assertEquals(List.of("merchantServiceImpl", "calculatorServiceImpl", "requiredDependantControllerImpl"), names(order));
+    }
+
+    @Test
+    void should_dropEdgesToNodesLeftOut_whenTakingSubgraph() {
+        DependencyGraph graph = DependencyGraph.of(List.of(RequiredDependantControllerImpl.class, MerchantServiceImpl.class,
+                ReversedModule.class), namingStrategy);
+
+        DependencyGraph subgraph = graph.subgraph(List.of(RequiredDependantControllerImpl.class, ReversedModule.class));
+
+        assertEquals(List.of("reversedModule", "service", "requiredDependantControllerImpl", "controller"),
+                names(subgraph.order()));
+        assertEquals(List.of("service"), names(subgraph.nodes().get(0).dependencies()));
+    }
+
+    @Test
+    void should_throwProviderRegistrationException_whenClassDependsOnItself() {
+        assertThrows(ProviderRegistrationException.class,
+                () -> DependencyGraph.of(List.of(CircularDependantClass.class), namingStrategy));
+    }
+
+    @Test
+    void should_reportCycle_whenClassesDependOnEachOther() {
+        ProviderRegistrationException exception = assertThrows(ProviderRegistrationException.class,
+                () -> DependencyGraph.of(List.of(First.class, Second.class), namingStrategy));
+
+        assertTrue(exception.getMessage().contains("first -> second -> first"), exception.getMessage());
+    }
+
+    @Test
+    void should_requireTransitiveDependencies_whenNodeMatches() {
+        DependencyGraph graph = DependencyGraph.of(List.of(CalculatorServiceImpl.class, MerchantServiceImpl.class,
+                RequiredDependantControllerImpl.class), namingStrategy);
+
+        List<Class<?>> required = graph.classesRequiredBy(node -> node.name().equals("requiredDependantControllerImpl"));
+
+        assertEquals(List.of(MerchantServiceImpl.class, RequiredDependantControllerImpl.class), required);
+    }
+
+    @Test
+    void should_requireDependenciesOfEveryProvideMethod_whenModuleMatches() {
+        DependencyGraph graph = DependencyGraph.of(List.of(CalculatorServiceImpl.class, MerchantServiceImpl.class,
+                ControllerModule.class), namingStrategy);
+
+        List<Class<?>> required = graph.classesRequiredBy(node -> node.name().equals("controllerModule"));
+
+        assertEquals(List.of(MerchantServiceImpl.class, ControllerModule.class), required);
+    }
+
+    @Test
+    void should_requireNothing_whenNoNodeMatches() {
+        DependencyGraph graph = DependencyGraph.of(List.of(MerchantServiceImpl.class), namingStrategy);
+
+        assertTrue(graph.classesRequiredBy(node -> false).isEmpty());
+    }
+
+    private static List<String> names(List<DependencyGraph.Node> nodes) {
+        return nodes.stream().map(DependencyGraph.Node::name).toList();
+    }
+
+    @Module
+    public static class ReversedModule {
+
+        @Provide
+        public CalculatorController controller(MerchantService merchantService) {
+            return new RequiredDependantControllerImpl(merchantService);
+        }
+
+        @Provide
+        public MerchantService service() {
+            return new MerchantServiceImpl();
+        }
+    }
+
+    @Module
+    public static class ControllerModule {
+
+        @Provide
+        public CalculatorController controller(MerchantService merchantService) {
+            return new RequiredDependantControllerImpl(merchantService);
+        }
+    }
+
+    public static class First {
+
+        @Inject
+        public First(Second second) {}
+    }
+
+    public static class Second {
+
+        @Inject
+        public Second(First first) {}
+    }
+}
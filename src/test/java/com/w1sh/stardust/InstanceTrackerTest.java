@@ -0,0 +1,66 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.example.service.impl.TestClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstanceTrackerTest {
+
+    @Test
+    void should_KeepNoInstance_WhenTrackingNone() {
+        final InstanceTracker<TestClass> tracker = InstanceTracker.none();
+
+        tracker.track(new TestClass());
+
+        assertTrue(tracker.instances().isEmpty());
+    }
+
+    @Test
+    void should_ReturnLiveInstances_WhenTrackingWeakly() {
+        final InstanceTracker<TestClass> tracker = InstanceTracker.weak();
+        final TestClass first = new TestClass();
+        final TestClass second = new TestClass();
+
+        tracker.track(first);
+        tracker.track(second);
+
+        assertEquals(2, tracker.instances().size());
+        assertTrue(tracker.instances().containsAll(List.of(first, second)));
+    }
+
+    @Test
+    void should_KeepLimitOfMostRecentInstancesInOrder_WhenTrackingIsBounded() {
+        final InstanceTracker<Integer> tracker = InstanceTracker.bounded(3);
+
+        for (int i = 0; i < 10; i++) {
+            tracker.track(i);
+        }
+
+        assertEquals(List.of(7, 8, 9), tracker.instances());
+    }
+
+    @Test
+    void should_NeverExceedLimit_WhenTrackingConcurrently() throws InterruptedException {
+        final InstanceTracker<TestClass> tracker = InstanceTracker.bounded(16);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> tracker.track(new TestClass()));
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(16, tracker.instances().size());
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_WhenBoundIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> InstanceTracker.bounded(0));
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Test;
 
 import javax.annotation.PostConstruct;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class JakartaPostConstructInterceptorTest {
@@ -18,6 +21,17 @@ class JakartaPostConstructInterceptorTest {
         verify(spy, times(1)).init();
     }
 
+    @Test
+    void should_propagateError_whenPostConstructMethodThrowsError() {
+        assertThrows(LinkageError.class, () -> processor.intercept(new BrokenPostConstructClass()));
+    }
+
+    @Test
+    void should_applyOnlyToClassesWithPostConstructMethods() {
+        assertTrue(processor.appliesTo(PostConstructClass.class));
+        assertFalse(processor.appliesTo(Object.class));
+    }
+
     private static class PostConstructClass {
 
         public PostConstructClass(){}
@@ -25,4 +39,12 @@ class JakartaPostConstructInterceptorTest {
         @PostConstruct
         public void init(){}
     }
-}
\ No newline at end of file
+
+    private static class BrokenPostConstructClass {
+
+        @PostConstruct
+        public void init() {
+            throw new LinkageError("broken");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.exception.PreDestroyInvocationException;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JakartaPreDestroyInterceptorTest {
+
+    private final JakartaPreDestroyInterceptor interceptor = new JakartaPreDestroyInterceptor();
+
+    @Test
+    void should_invokePreDestroyMethods_subclassFirst() {
+        final var instance = new PreDestroySubclass();
+
+        interceptor.intercept(instance);
+
+        assertEquals(List.of("subclass", "superclass"), instance.destroyed);
+    }
+
+    @Test
+    void should_invokeOverridingMethodOnce_whenPreDestroyMethodIsOverridden() {
+        final var instance = new OverridingPreDestroyClass();
+
+        interceptor.intercept(instance);
+
+        assertEquals(List.of("overriding", "superclass"), instance.destroyed);
+    }
+
+    @Test
+    void should_throwPreDestroyInvocationException_whenPreDestroyMethodFails() {
+        assertThrows(PreDestroyInvocationException.class, () -> interceptor.intercept(new FailingPreDestroyClass()));
+    }
+
+    @Test
+    void should_propagateError_whenPreDestroyMethodThrowsError() {
+        assertThrows(LinkageError.class, () -> interceptor.intercept(new BrokenPreDestroyClass()));
+    }
+
+    @Test
+    void should_applyOnlyToClassesWithPreDestroyMethods() {
+        assertTrue(interceptor.appliesTo(PreDestroySubclass.class));
+        assertFalse(interceptor.appliesTo(Object.class));
+    }
+
+    private static class PreDestroyClass {
+
+        protected final List<String> destroyed = new ArrayList<>();
+
+        @PreDestroy
+        private void destroySuperclass() {
+            destroyed.add("superclass");
+        }
+
+        @PreDestroy
+        public void close() {
+            destroyed.add("closed");
+        }
+    }
+
+    private static class PreDestroySubclass extends PreDestroyClass {
+
+        @PreDestroy
+        private void destroySubclass() {
+            destroyed.add("subclass");
+        }
+
+        @Override
+        public void close() {
+            // not annotated, so the superclass callback must not run either
+        }
+    }
+
+    private static class OverridingPreDestroyClass extends PreDestroyClass {
+
+        @Override
+        @PreDestroy
+        public void close() {
+            destroyed.add("overriding");
+        }
+    }
+
+    private static class FailingPreDestroyClass {
+
+        @PreDestroy
+        public void destroy() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    private static class BrokenPreDestroyClass {
+
+        @PreDestroy
+        public void destroy() {
+            throw new LinkageError("broken");
+        }
+    }
+}
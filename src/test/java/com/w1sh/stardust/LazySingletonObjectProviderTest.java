@@ -0,0 +1,75 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.example.service.impl.TestClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazySingletonObjectProviderTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final LazySingletonObjectProvider<TestClass> provider = new LazySingletonObjectProvider<>(() -> {
+        created.incrementAndGet();
+        return new TestClass();
+    });
+
+    @Test
+    void should_NotCreateInstance_WhenNotLookedUp() {
+        assertFalse(provider.isInitialized());
+        assertTrue(provider.instances().isEmpty());
+        assertEquals(0, created.get());
+    }
+
+    @Test
+    void should_AlwaysReturnSameInstance_WhenInvokingSingletonInstance() {
+        final TestClass testClass = provider.singletonInstance();
+        final TestClass secondTestClass = provider.singletonInstance();
+
+        assertSame(testClass, secondTestClass);
+        assertEquals(List.of(testClass), provider.instances());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void should_CreateSingleInstance_WhenLookedUpConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<TestClass>> lookups = IntStream.range(0, 64)
+                    .<Callable<TestClass>>mapToObj(i -> provider::singletonInstance)
+                    .toList();
+            for (Future<TestClass> lookup : executor.invokeAll(lookups)) {
+                assertSame(provider.singletonInstance(), lookup.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void should_RetryCreation_WhenPreviousCreationFailed() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ObjectProvider<TestClass> failingOnce = new LazySingletonObjectProvider<>(() -> {
+            if (attempts.incrementAndGet() == 1) throw new IllegalStateException("Unable to start");
+            return new TestClass();
+        });
+
+        assertThrows(IllegalStateException.class, failingOnce::singletonInstance);
+        assertNotNull(failingOnce.singletonInstance());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void should_ThrowUnsupportedOperationException_WhenInvokingNewInstance() {
+        assertThrows(UnsupportedOperationException.class, provider::newInstance);
+    }
+}
@@ -250,4 +250,60 @@ class ParameterResolverTest {
 
         assertThrows(ProviderInitializationException.class, () -> resolver.resolve(constructor.getParameters().get(3)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_lookUpProviderOnce_whenRunningCompiledPlanRepeatedly() {
+        final var injectConstructor = Constructors.getInjectConstructor(BetterCalculatorServiceImpl.class);
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(injectConstructor);
+        ResolvableParameter<?> parameter = constructor.getParameters().get(0);
+        MerchantServiceImpl merchantService = new MerchantServiceImpl();
+
+        when(container.provider(MerchantService.class)).thenReturn(new SingletonObjectProvider<>(merchantService));
+        ResolutionPlan plan = resolver.compile(parameter);
+
+        assertSame(merchantService, plan.resolve());
+        assertSame(merchantService, plan.resolve());
+        verify(container, times(1)).provider(MerchantService.class);
+    }
+
+    @Test
+    void should_resolveProviderRegisteredLater_whenCompiledPlanHadNoProvider() {
+        final var injectConstructor = Constructors.getInjectConstructor(BetterCalculatorServiceImpl.class);
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(injectConstructor);
+        ResolutionPlan plan = resolver.compile(constructor.getParameters().get(0));
+
+        assertNull(plan.resolve());
+        container.register(MerchantServiceImpl.class);
+
+        assertNotNull(plan.resolve());
+    }
+
+    @Test
+    void should_returnNewBinding_whenRunningCompiledBindingPlan() {
+        final var injectConstructor = Constructors.getInjectConstructor(BindingDependantControllerImpl.class);
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(injectConstructor);
+
+        when(container.provider(MerchantService.class)).thenReturn(new SingletonObjectProvider<>(new MerchantServiceImpl()));
+        ResolutionPlan plan = resolver.compile(constructor.getParameters().get(0));
+
+        Object first = plan.resolve();
+        Object second = plan.resolve();
+        assertInstanceOf(Lazy.class, first);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void should_returnCopyOfPropertyArray_whenRunningCompiledPropertyPlan() {
+        final var injectConstructor = Constructors.getInjectConstructor(PropertyDependantService.class);
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(injectConstructor);
+        when(registry.getProperty("test.value-array", "")).thenReturn("test1,test2");
+        ResolutionPlan plan = resolver.compile(constructor.getParameters().get(1));
+
+        String[] first = (String[]) plan.resolve();
+        String[] second = (String[]) plan.resolve();
+
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+        verify(registry, times(1)).getProperty("test.value-array", "");
+    }
+}
@@ -0,0 +1,150 @@
+package com.w1sh.stardust;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledObjectProviderTest {
+
+    @Test
+    void should_reuseInstance_whenReleased() {
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 2);
+
+        StringBuilder first = provider.borrow();
+        provider.release(first);
+
+        assertSame(first, provider.borrow());
+        assertEquals(new PoolMetrics(2, 0, 1, 1, 1, 0), provider.metrics());
+    }
+
+    @Test
+    void should_createInstance_whenNoneIsIdle() {
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 2);
+
+        StringBuilder first = provider.borrow();
+        StringBuilder second = provider.borrow();
+
+        assertNotSame(first, second);
+        assertEquals(2, provider.metrics().borrowed());
+        assertEquals(2, provider.metrics().created());
+    }
+
+    @Test
+    void should_dropInstance_whenPoolIsFull() {
+        List<Object> discarded = new ArrayList<>();
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 1, discarded::add);
+        StringBuilder first = provider.borrow();
+        StringBuilder second = provider.borrow();
+
+        provider.release(first);
+        provider.release(second);
+
+        assertEquals(List.of(second), discarded);
+        assertEquals(new PoolMetrics(1, 1, 0, 2, 0, 1), provider.metrics());
+        assertEquals(List.of(first), provider.instances());
+    }
+
+    @Test
+    void should_dropInstance_whenValidationFails() {
+        List<Object> discarded = new ArrayList<>();
+        PooledObjectProvider<Connection> provider = new PooledObjectProvider<>(Connection::new, 2, discarded::add);
+        Connection connection = provider.borrow();
+        connection.broken = true;
+
+        provider.release(connection);
+
+        assertEquals(List.of(connection), discarded);
+        assertNotSame(connection, provider.borrow());
+    }
+
+    @Test
+    void should_dropInstance_whenInvalidated() {
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 2);
+        StringBuilder instance = provider.borrow();
+
+        provider.invalidate(instance);
+
+        assertEquals(new PoolMetrics(2, 0, 0, 1, 0, 1), provider.metrics());
+    }
+
+    @Test
+    void should_throwIllegalStateException_whenInstanceIsReleasedTwice() {
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 2);
+        StringBuilder instance = provider.borrow();
+        provider.release(instance);
+
+        assertThrows(IllegalStateException.class, () -> provider.release(instance));
+        assertThrows(IllegalStateException.class, () -> provider.invalidate(instance));
+        assertEquals(new PoolMetrics(2, 1, 0, 1, 0, 0), provider.metrics());
+        assertEquals(List.of(instance), provider.instances());
+    }
+
+    @Test
+    void should_throwIllegalStateException_whenInstanceWasNeverBorrowed() {
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 2);
+
+        assertThrows(IllegalStateException.class, () -> provider.release(provider.newInstance()));
+        assertEquals(0, provider.metrics().borrowed());
+    }
+
+    @Test
+    void should_throwIllegalArgumentException_whenSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledObjectProvider<>(StringBuilder::new, 0));
+    }
+
+    @Test
+    void should_neverLendInstanceTwice_whenBorrowedConcurrently() throws Exception {
+        AtomicInteger overlaps = new AtomicInteger();
+        PooledObjectProvider<StringBuilder> provider = new PooledObjectProvider<>(StringBuilder::new, 4);
+        Set<StringBuilder> lent = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int task = 0; task < 8; task++) {
+                executor.execute(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < 10_000; i++) {
+                        StringBuilder instance = provider.borrow();
+                        if (!lent.add(instance)) overlaps.incrementAndGet();
+                        lent.remove(instance);
+                        provider.release(instance);
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        PoolMetrics metrics = provider.metrics();
+        assertEquals(0, overlaps.get());
+        assertEquals(0, metrics.borrowed());
+        assertTrue(metrics.idle() <= 4);
+        assertEquals(80_000, metrics.created() + metrics.reused());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Connection implements Poolable {
+
+        private boolean broken;
+
+        @Override
+        public boolean validate() {
+            return !broken;
+        }
+    }
+}
@@ -3,8 +3,13 @@ package com.w1sh.stardust;
 import com.w1sh.stardust.example.service.impl.TestClass;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class PrototypeObjectProviderTest {
 
@@ -26,4 +31,62 @@ class PrototypeObjectProviderTest {
 
         assertNotEquals(testClass, secondTestClass);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReturnFirstInstance_WhenInvokingSingletonInstanceAfterNewInstance() {
+        final TestClass first = provider.newInstance();
+        final TestClass second = provider.newInstance();
+
+        assertSame(first, provider.singletonInstance());
+        assertEquals(List.of(first, second), provider.instances());
+    }
+
+    @Test
+    void should_OnlyReturnFirstInstance_WhenTrackingNoInstance() {
+        final ObjectProvider<TestClass> untracked = new PrototypeObjectProvider<>(TestClass::new, InstanceTracker.none());
+
+        assertTrue(untracked.instances().isEmpty());
+
+        final TestClass first = untracked.newInstance();
+        untracked.newInstance();
+
+        assertEquals(List.of(first), untracked.instances());
+        assertSame(first, untracked.singletonInstance());
+    }
+
+    @Test
+    void should_KeepMostRecentInstances_WhenTrackingIsBounded() {
+        final ObjectProvider<TestClass> bounded = new PrototypeObjectProvider<>(TestClass::new, InstanceTracker.bounded(2));
+
+        final TestClass first = bounded.newInstance();
+        bounded.newInstance();
+        final TestClass third = bounded.newInstance();
+        final TestClass fourth = bounded.newInstance();
+
+        assertEquals(List.of(first, third, fourth), bounded.instances());
+    }
+
+    @Test
+    void should_TrackEveryInstance_WhenCreatingInstancesConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<TestClass>> creations = IntStream.range(0, 1000)
+                    .<Callable<TestClass>>mapToObj(i -> provider::newInstance)
+                    .toList();
+            final List<TestClass> created = executor.invokeAll(creations).stream()
+                    .map(future -> {
+                        try {
+                            return future.get();
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+
+            assertEquals(1000, provider.instances().size());
+            assertTrue(provider.instances().containsAll(created));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
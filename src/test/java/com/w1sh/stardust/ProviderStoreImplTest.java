@@ -1,14 +1,21 @@
 package com.w1sh.stardust;
 
+import com.w1sh.stardust.example.controller.CalculatorController;
+import com.w1sh.stardust.example.controller.impl.CalculatorControllerImpl;
+import com.w1sh.stardust.example.controller.impl.EmptyCalculatorControllerImpl;
+import com.w1sh.stardust.example.controller.impl.PrimaryControllerImpl;
+import com.w1sh.stardust.example.service.CalculatorService;
 import com.w1sh.stardust.example.service.MerchantService;
 import com.w1sh.stardust.example.service.impl.DuplicateCalculatorServiceImpl;
 import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import com.w1sh.stardust.exception.ProviderCandidatesException;
 import com.w1sh.stardust.exception.ProviderRegistrationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,4 +92,100 @@ class ProviderStoreImplTest {
 
         assertThrows(ProviderRegistrationException.class, () -> store.register("duplicate", MerchantService.class, new SingletonObjectProvider<>(new MerchantServiceImpl())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_returnProvider_whenLookingUpBySupertypeOfRegisteredClass() {
+        SingletonObjectProvider<MerchantServiceImpl> provider = new SingletonObjectProvider<>(new MerchantServiceImpl());
+        store.register("merchant", MerchantServiceImpl.class, provider);
+
+        List<ObjectProvider<MerchantService>> providers = store.get(MerchantService.class);
+
+        assertEquals(1, providers.size());
+        assertEquals(provider, providers.get(0));
+    }
+
+    @Test
+    void should_returnEmptyImmutableList_whenNoProviderIsAssignableToClass() {
+        store.register("duplicate", DuplicateCalculatorServiceImpl.class, new SingletonObjectProvider<>(new DuplicateCalculatorServiceImpl()));
+
+        List<ObjectProvider<MerchantService>> providers = store.get(MerchantService.class);
+
+        assertTrue(providers.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> providers.add(null));
+    }
+
+    @Test
+    void should_replaceIndexedProvider_whenRegisteringWithExistingName() {
+        store.register("service", DuplicateCalculatorServiceImpl.class, new SingletonObjectProvider<>(new DuplicateCalculatorServiceImpl()));
+        store.register("service", MerchantServiceImpl.class, new SingletonObjectProvider<>(new MerchantServiceImpl()));
+
+        assertTrue(store.get(CalculatorService.class).isEmpty());
+        assertEquals(1, store.get(MerchantService.class).size());
+        assertEquals(Set.of(MerchantServiceImpl.class), store.getAllClasses());
+    }
+
+    @Test
+    void should_returnSameProviders_whenStoreIsFrozen() {
+        SingletonObjectProvider<MerchantServiceImpl> provider = new SingletonObjectProvider<>(new MerchantServiceImpl());
+        store.register("merchant", MerchantServiceImpl.class, provider);
+
+        store.freeze();
+
+        assertTrue(store.isFrozen());
+        assertEquals(provider, store.get("merchant"));
+        assertEquals(List.of(provider), store.get(MerchantService.class));
+        assertEquals(List.of(provider), store.getAll());
+        assertEquals(Set.of(MerchantServiceImpl.class), store.getAllClasses());
+        assertEquals(1, store.count());
+    }
+
+    @Test
+    void should_throwProviderRegistrationException_whenRegisteringAfterStoreIsFrozen() {
+        store.freeze();
+
+        assertThrows(ProviderRegistrationException.class, () -> store.register("merchant", MerchantService.class, new SingletonObjectProvider<>(new MerchantServiceImpl())));
+    }
+
+    @Test
+    void should_acceptRegistrations_whenFrozenStoreIsCleared() {
+        store.freeze();
+
+        store.clear();
+        store.register("merchant", MerchantService.class, new SingletonObjectProvider<>(new MerchantServiceImpl()));
+
+        assertFalse(store.isFrozen());
+        assertEquals(1, store.count());
+    }
+
+    @Test
+    void should_returnOnlyPrimaryCandidates_whenLookingUpPrimaryProviders() {
+        SingletonObjectProvider<CalculatorControllerImpl> primary = new SingletonObjectProvider<>(new CalculatorControllerImpl());
+        store.register("calculator", CalculatorControllerImpl.class, primary);
+        store.register("empty", EmptyCalculatorControllerImpl.class, new SingletonObjectProvider<>(new EmptyCalculatorControllerImpl()));
+
+        List<ObjectProvider<CalculatorController>> primaries = store.getPrimary(CalculatorController.class);
+
+        assertEquals(List.of(primary), primaries);
+        assertEquals(2, store.get(CalculatorController.class).size());
+    }
+
+    @Test
+    void should_throwProviderCandidatesException_whenSeveralPrimaryCandidatesAreRegistered() {
+        store.register("calculator", CalculatorControllerImpl.class, new SingletonObjectProvider<>(new CalculatorControllerImpl()));
+        store.register("primary", PrimaryControllerImpl.class, new SingletonObjectProvider<>(new PrimaryControllerImpl()));
+
+        assertThrows(ProviderCandidatesException.class, () -> store.getPrimary(CalculatorController.class));
+
+        store.freeze();
+
+        assertThrows(ProviderCandidatesException.class, () -> store.getPrimary(CalculatorController.class));
+    }
+
+    @Test
+    void should_reportOnlyPrimariesSharingADeclaredType_whenLookingForConflicts() {
+        List<Class<?>> conflicting = ProviderStoreImpl.conflictingPrimaries(PrimaryControllerImpl.class,
+                Stream.of(CalculatorControllerImpl.class, MerchantServiceImpl.class));
+
+        assertEquals(List.of(CalculatorControllerImpl.class), conflicting);
+    }
+}
@@ -0,0 +1,134 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Module;
+import com.w1sh.stardust.annotation.Pool;
+import com.w1sh.stardust.annotation.Primary;
+import com.w1sh.stardust.annotation.Profile;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.exception.ProviderInitializationException;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Priority;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvableConstructorImplTest {
+
+    @Test
+    void should_readMetadataFromAnnotations_whenClassIsAnnotated() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(PooledComponent.class.getConstructor());
+
+        assertEquals(new ExecutableMetadata("parser", Scope.POOLED, 5, true, Set.of("test"), true, 4),
+                constructor.getMetadata());
+    }
+
+    @Test
+    void should_readDefaultMetadata_whenClassIsNotAnnotated() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(FailingComponent.class.getConstructor());
+
+        assertEquals(new ExecutableMetadata(null, Scope.SINGLETON, 0, false, Set.of(), false, 0), constructor.getMetadata());
+    }
+
+    @Test
+    void should_shareMetadata_whenConstructorsOfSameClassAreCreated() throws Exception {
+        ResolvableConstructorImpl<?> first = new ResolvableConstructorImpl<>(PooledComponent.class.getConstructor());
+        ResolvableConstructorImpl<?> second = new ResolvableConstructorImpl<>(PooledComponent.class.getConstructor());
+
+        assertSame(first.getMetadata(), second.getMetadata());
+    }
+
+    @Test
+    void should_readProvideFromMetaAnnotation_whenClassIsAnnotatedWithModule() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(AnnotatedModule.class.getConstructor());
+
+        assertNotNull(constructor.getAnnotation(Provide.class));
+        assertNotNull(constructor.getAnnotation(Module.class));
+        assertEquals(Scope.SINGLETON, constructor.getMetadata().scope());
+    }
+
+    @Test
+    void should_readScopeFromMetaAnnotation_whenCustomAnnotationCarriesProvide() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(MetaAnnotatedPrototype.class.getConstructor());
+
+        assertEquals(Scope.PROTOTYPE, constructor.getMetadata().scope());
+        assertEquals(Scope.PROTOTYPE, constructor.getScope());
+    }
+
+    @Test
+    void should_preferDirectProvide_whenMetaAnnotationAlsoCarriesOne() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(OverriddenPrototype.class.getConstructor());
+
+        assertEquals(Scope.SINGLETON, constructor.getMetadata().scope());
+        assertEquals("overridden", constructor.getMetadata().name());
+    }
+
+    @Test
+    void should_exposeThrownException_whenConstructorFails() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(FailingComponent.class.getConstructor());
+
+        ProviderInitializationException exception = assertThrows(ProviderInitializationException.class,
+                () -> constructor.resolve(new Object[0]));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void should_propagateError_whenConstructorThrowsError() throws Exception {
+        ResolvableConstructorImpl<?> constructor = new ResolvableConstructorImpl<>(BrokenComponent.class.getConstructor());
+
+        assertThrows(LinkageError.class, () -> constructor.resolve(new Object[0]));
+    }
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Provide(scope = Scope.PROTOTYPE)
+    public @interface PrototypeComponent {}
+
+    @Priority(5)
+    @Primary
+    @Profile("test")
+    @Pool(maxSize = 4)
+    @Provide(value = "parser", scope = Scope.POOLED)
+    public static class PooledComponent {
+
+        public PooledComponent() {}
+    }
+
+    @Module
+    public static class AnnotatedModule {
+
+        public AnnotatedModule() {}
+    }
+
+    @PrototypeComponent
+    public static class MetaAnnotatedPrototype {
+
+        public MetaAnnotatedPrototype() {}
+    }
+
+    @PrototypeComponent
+    @Provide("overridden")
+    public static class OverriddenPrototype {
+
+        public OverriddenPrototype() {}
+    }
+
+    public static class FailingComponent {
+
+        public FailingComponent() {
+            throw new IllegalStateException("unavailable");
+        }
+    }
+
+    public static class BrokenComponent {
+
+        public BrokenComponent() {
+            throw new LinkageError("broken");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Pool;
+import com.w1sh.stardust.annotation.Primary;
+import com.w1sh.stardust.annotation.Profile;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.exception.ProviderInitializationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvableMethodImplTest {
+
+    private final FactoryModule module = new FactoryModule();
+
+    @Test
+    void should_readMetadataFromAnnotations_whenMethodIsAnnotated() throws Exception {
+        ResolvableMethodImpl<?> method = new ResolvableMethodImpl<>(FactoryModule.class.getMethod("parser"), module);
+
+        assertEquals(new ExecutableMetadata("pooledParser", Scope.POOLED, 0, false, Set.of("test"), true, 2),
+                method.getMetadata());
+    }
+
+    @Test
+    void should_defaultToSingletonAndMethodName_whenMethodIsNotAnnotatedWithProvide() throws Exception {
+        ResolvableMethodImpl<?> method = new ResolvableMethodImpl<>(FactoryModule.class.getMethod("failing"), module);
+
+        assertEquals(new ExecutableMetadata("failing", Scope.SINGLETON, 0, false, Set.of(), false, 0), method.getMetadata());
+    }
+
+    @Test
+    void should_keepMetadata_whenMethodIsBound() throws Exception {
+        ResolvableMethodImpl<?> unbound = new ResolvableMethodImpl<>(FactoryModule.class.getMethod("parser"), null);
+
+        assertSame(unbound.getMetadata(), unbound.bind(module).getMetadata());
+    }
+
+    @Test
+    void should_exposeThrownException_whenMethodFails() throws Exception {
+        ResolvableMethodImpl<?> method = new ResolvableMethodImpl<>(FactoryModule.class.getMethod("failing"), module);
+
+        ProviderInitializationException exception = assertThrows(ProviderInitializationException.class,
+                () -> method.resolve(new Object[0]));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void should_propagateError_whenMethodThrowsError() throws Exception {
+        ResolvableMethodImpl<?> method = new ResolvableMethodImpl<>(FactoryModule.class.getMethod("broken"), module);
+
+        assertThrows(LinkageError.class, () -> method.resolve(new Object[0]));
+    }
+
+    public static class FactoryModule {
+
+        @Primary
+        @Profile("test")
+        @Pool(maxSize = 2)
+        @Provide(value = "pooledParser", scope = Scope.POOLED)
+        public StringBuilder parser() {
+            return new StringBuilder();
+        }
+
+        public String failing() {
+            throw new IllegalStateException("unavailable");
+        }
+
+        public String broken() {
+            throw new LinkageError("broken");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Introspect;
+import com.w1sh.stardust.annotation.Property;
+import com.w1sh.stardust.annotation.Qualifier;
+import com.w1sh.stardust.annotation.Required;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Parameter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvableParameterImplTest {
+
+    @Test
+    void should_readMetadataFromAnnotations_whenParameterIsAnnotated() throws Exception {
+        ResolvableParameterImpl<?> parameter = new ResolvableParameterImpl<>(parameter(0));
+
+        ParameterMetadata metadata = parameter.getMetadata();
+
+        assertEquals("merchant", metadata.qualifier());
+        assertTrue(metadata.required());
+        assertFalse(metadata.primary());
+        assertFalse(metadata.introspect());
+        assertNull(metadata.property());
+        assertTrue(parameter.isRequired());
+    }
+
+    @Test
+    void should_readPropertyAndIntrospect_whenParameterIsAnnotated() throws Exception {
+        ParameterMetadata metadata = new ResolvableParameterImpl<>(parameter(1)).getMetadata();
+
+        assertTrue(metadata.introspect());
+        assertEquals("stardust.name", metadata.property().value());
+    }
+
+    @Test
+    void should_readNoQualifier_whenQualifierNameIsBlank() throws Exception {
+        ParameterMetadata metadata = new ResolvableParameterImpl<>(parameter(2)).getMetadata();
+
+        assertEquals(new ParameterMetadata(null, false, false, false, null), metadata);
+    }
+
+    private static Parameter parameter(int index) throws NoSuchMethodException {
+        return AnnotatedParameters.class.getConstructor(Object.class, String.class, Object.class).getParameters()[index];
+    }
+
+    public static class AnnotatedParameters {
+
+        public AnnotatedParameters(@Qualifier(name = "merchant") @Required Object merchant,
+                                   @Introspect @Property("stardust.name") String name,
+                                   @Qualifier(name = " ") Object unqualified) {}
+    }
+}
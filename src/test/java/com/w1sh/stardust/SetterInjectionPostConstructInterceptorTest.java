@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class SetterInjectionPostConstructInterceptorTest {
@@ -29,6 +30,13 @@ class SetterInjectionPostConstructInterceptorTest {
         verify(resolver, times(1)).resolve(any());
     }
 
+    @Test
+    void should_propagateError_whenSetterThrowsError() {
+        when(resolver.resolve(any())).thenReturn(new MerchantServiceImpl());
+
+        assertThrows(LinkageError.class, () -> interceptor.intercept(new BrokenSetterClass()));
+    }
+
     private static class SetterPostConstructClass {
 
         private MerchantService merchantService;
@@ -45,4 +53,13 @@ class SetterInjectionPostConstructInterceptorTest {
         }
     }
 
-}
\ No newline at end of file
+    private static class BrokenSetterClass {
+
+        public BrokenSetterClass() {}
+
+        @Inject
+        public void setMerchantService(MerchantService merchantService) {
+            throw new LinkageError("broken");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Inject;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.configuration.StardustConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StardustApplicationTest {
+
+    private static CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void should_completeCoreReady_beforeOtherClassesAreRegistered() throws Exception {
+        Startup startup = new StardustApplication(StardustConfiguration.base(),
+                List.of(BlockingComponent.class, CoreService.class, CoreRepository.class)).runAsync();
+
+        ProviderContainer container = startup.coreReady().get(5, TimeUnit.SECONDS);
+
+        assertTrue(container.contains(CoreService.class));
+        assertTrue(container.contains(CoreRepository.class));
+        assertFalse(container.contains(BlockingComponent.class));
+        assertFalse(startup.fullyReady().isDone());
+
+        release.countDown();
+
+        assertTrue(startup.fullyReady().get(5, TimeUnit.SECONDS).contains(BlockingComponent.class));
+    }
+
+    @Test
+    void should_includeInCore_whenPriorityIsZero() throws Exception {
+        Startup startup = new StardustApplication(StardustConfiguration.base(),
+                List.of(BlockingComponent.class, ZeroPriorityService.class)).runAsync();
+
+        ProviderContainer container = startup.coreReady().get(5, TimeUnit.SECONDS);
+
+        assertTrue(container.contains(ZeroPriorityService.class));
+        assertFalse(container.contains(BlockingComponent.class));
+    }
+
+    @Test
+    void should_leaveInterceptorsOutOfCore_whenTheyOnlyHavePriority() throws Exception {
+        Startup startup = new StardustApplication(StardustConfiguration.base(),
+                List.of(BlockingComponent.class, OrderedInterceptor.class, CoreService.class, CoreRepository.class)).runAsync();
+
+        ProviderContainer container = startup.coreReady().get(5, TimeUnit.SECONDS);
+
+        assertTrue(container.contains(CoreService.class));
+        assertFalse(container.contains(OrderedInterceptor.class));
+    }
+
+    @Test
+    void should_waitForReadiness_beforeCompletingFullyReady() throws Exception {
+        StardustApplication application = new StardustApplication(StardustConfiguration.base().withAsyncPostConstruct(),
+                List.of(SlowlyInitialized.class));
+        Startup startup = application.runAsync();
+
+        assertThrows(TimeoutException.class, () -> startup.fullyReady().get(200, TimeUnit.MILLISECONDS));
+        assertFalse(application.getReadiness().isReady());
+
+        release.countDown();
+
+        assertTrue(startup.fullyReady().get(5, TimeUnit.SECONDS).instance(SlowlyInitialized.class).initialized);
+        assertTrue(application.getReadiness().isReady());
+    }
+
+    @Test
+    void should_completeBothExceptionally_whenStartupFails() {
+        Startup startup = new StardustApplication(StardustConfiguration.base(),
+                List.of(FailingCoreService.class)).runAsync();
+
+        ExecutionException core = assertThrows(ExecutionException.class, () -> startup.coreReady().get(5, TimeUnit.SECONDS));
+        ExecutionException full = assertThrows(ExecutionException.class, () -> startup.fullyReady().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, rootCause(core));
+        assertSame(core.getCause(), full.getCause());
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    @Test
+    void should_createSingletonsOnVirtualThreads_whenVirtualThreadInstantiationIsEnabled() throws Exception {
+        Startup startup = new StardustApplication(StardustConfiguration.base().withVirtualThreadInstantiation(),
+                List.of(CoreService.class, CoreRepository.class, VirtualThreadComponent.class)).runAsync();
+
+        ProviderContainer container = startup.fullyReady().get(5, TimeUnit.SECONDS);
+
+        assertTrue(container.instance(VirtualThreadComponent.class).createdOnVirtualThread);
+        assertTrue(container.contains(CoreService.class));
+    }
+
+    private static void awaitRelease() {
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS), "Release never came");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Provide
+    public static class CoreRepository {}
+
+    @Priority(1)
+    @Provide
+    public static class CoreService {
+
+        @Inject
+        public CoreService(CoreRepository repository) {}
+    }
+
+    @Priority(0)
+    @Provide
+    public static class ZeroPriorityService {}
+
+    @Provide
+    public static class BlockingComponent {
+
+        public BlockingComponent() {
+            awaitRelease();
+        }
+    }
+
+    @Priority(10)
+    public static class OrderedInterceptor implements InvocationInterceptor {
+
+        @Override
+        public void intercept(Object instance) {}
+
+        @Override
+        public InvocationType getInterceptorType() {
+            return InvocationType.POST_CONSTRUCT;
+        }
+    }
+
+    @Provide
+    public static class SlowlyInitialized {
+
+        private volatile boolean initialized;
+
+        @PostConstruct
+        public void initialize() {
+            awaitRelease();
+            initialized = true;
+        }
+    }
+
+    @Provide
+    public static class VirtualThreadComponent {
+
+        private final boolean createdOnVirtualThread = Thread.currentThread().isVirtual();
+    }
+
+    @Priority(1)
+    @Provide
+    public static class FailingCoreService {
+
+        public FailingCoreService() {
+            throw new IllegalStateException("Core service unavailable");
+        }
+    }
+}
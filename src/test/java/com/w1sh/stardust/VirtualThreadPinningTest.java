@@ -0,0 +1,197 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Inject;
+import com.w1sh.stardust.binding.Lazy;
+import com.w1sh.stardust.binding.LazyBinding;
+import com.w1sh.stardust.example.service.impl.TestClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs lookups and instance creations on many virtual threads at once while recording the
+ * {@value #PINNED_EVENT} events of the JVM, and fails when a virtual thread parked while pinned to its carrier, such as
+ * when blocking inside a monitor. The providers used here block while creating their instances, so any monitor held
+ * around their creation would show up.
+ * <br>
+ * Pinning is recorded through JFR rather than {@code jdk.tracePinnedThreads}, as the latter can hang the JVM on some
+ * JDK 21 updates when a pinned thread is actually reported.
+ */
+class VirtualThreadPinningTest {
+
+    private static final int THREADS = 64;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private AbstractProviderContainer container;
+
+    @BeforeEach
+    void setUp() {
+        container = AbstractProviderContainer.base();
+    }
+
+    @Test
+    void should_recordPinning_whenBlockingWhileHoldingMonitor() {
+        final Object monitor = new Object();
+
+        final List<String> pinned = recordPinning(() -> Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                block();
+            }
+        }).join());
+
+        assertFalse(pinned.isEmpty(), "No pinned virtual thread was recorded");
+    }
+
+    @Test
+    void should_notPin_whenLookingUpLazySingletonConcurrently() {
+        container.setLazyInitialization(true);
+        container.registerAll(List.of(SlowService.class, OtherSlowService.class, SlowServiceDependant.class));
+        container.freeze();
+
+        final List<String> pinned = recordPinning(() -> runOnVirtualThreads(() -> {
+            assertNotNull(container.instance(SlowServiceDependant.class));
+            assertNotNull(container.instance("slowService"));
+        }));
+
+        assertEquals(List.of(), pinned);
+    }
+
+    @Test
+    void should_notPin_whenResolvingLazyBindingConcurrently() {
+        final Lazy<TestClass> lazy = LazyBinding.of(new PrototypeObjectProvider<>(() -> {
+            block();
+            return new TestClass();
+        }));
+
+        final List<String> pinned = recordPinning(() -> runOnVirtualThreads(() -> assertNotNull(lazy.get())));
+
+        assertEquals(List.of(), pinned);
+    }
+
+    @Test
+    void should_notPin_whenCreatingPrototypesConcurrently() {
+        final ObjectProvider<TestClass> provider = new PrototypeObjectProvider<>(() -> {
+            block();
+            return new TestClass();
+        });
+
+        final List<String> pinned = recordPinning(() -> runOnVirtualThreads(() -> {
+            assertNotNull(provider.singletonInstance());
+            assertNotNull(provider.newInstance());
+            assertFalse(provider.instances().isEmpty());
+        }));
+
+        assertEquals(List.of(), pinned);
+    }
+
+    @Test
+    void should_notPin_whenRegisteringInParallelOnVirtualThreads() {
+        final List<String> pinned = recordPinning(() -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                container.registerAll(List.of(SlowServiceDependant.class, SlowService.class, OtherSlowService.class), executor);
+            }
+        });
+
+        assertNotNull(container.instance(SlowServiceDependant.class));
+        assertEquals(List.of(), pinned);
+    }
+
+    /**
+     * Runs the execution while recording pinned virtual threads, and returns the top frames of every pinned thread
+     * recorded.
+     */
+    private static List<String> recordPinning(Execution execution) {
+        final Queue<String> pinned = new ConcurrentLinkedQueue<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(PINNED_EVENT, event -> pinned.add(describe(event)));
+            stream.startAsync();
+            try {
+                execution.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+            stream.stop();
+        }
+        return List.copyOf(pinned);
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) return event.toString();
+        return event.getStackTrace().getFrames().stream()
+                .limit(12)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining(" <- "));
+    }
+
+    /**
+     * Runs the task on {@value #THREADS} virtual threads at once and waits for all of them.
+     */
+    private static void runOnVirtualThreads(Runnable task) throws InterruptedException {
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final List<Thread> threads = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty(), () -> "Virtual threads failed: " + failures);
+    }
+    private static void block() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Execution {
+        void run() throws InterruptedException;
+    }
+
+    public static class SlowService {
+
+        public SlowService() {
+            block();
+        }
+    }
+
+    public static class OtherSlowService {
+
+        public OtherSlowService() {
+            block();
+        }
+    }
+
+    public static class SlowServiceDependant {
+
+        @Inject
+        public SlowServiceDependant(SlowService slowService, OtherSlowService otherSlowService) {
+            block();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.w1sh.stardust;
+
+import com.w1sh.stardust.annotation.Warmup;
+import com.w1sh.stardust.event.ComponentWarmupEndEvent;
+import com.w1sh.stardust.event.PhaseEvent;
+import com.w1sh.stardust.event.SimplePhaseEventMulticaster;
+import com.w1sh.stardust.event.WarmupPhaseEndEvent;
+import com.w1sh.stardust.event.WarmupPhaseStartEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmupPhaseTest {
+
+    private AbstractProviderContainer container;
+    private SimplePhaseEventMulticaster multicaster;
+    private Queue<PhaseEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        container = AbstractProviderContainer.base();
+        multicaster = new SimplePhaseEventMulticaster();
+        events = new ConcurrentLinkedQueue<>();
+        multicaster.addApplicationListener(events::add);
+    }
+
+    @Test
+    void should_runHooksForEveryIteration_whenBoundByIterations() throws Exception {
+        container.registerAll(List.of(WarmableService.class, AnnotatedService.class, ColdService.class));
+
+        container.warmUp(WarmupPolicy.iterations(5), multicaster).get(5, TimeUnit.SECONDS);
+
+        assertEquals(5, container.instance(WarmableService.class).iterations);
+        assertEquals(5, container.instance(AnnotatedService.class).iterations);
+        assertInstanceOf(WarmupPhaseStartEvent.class, events.peek());
+        assertInstanceOf(WarmupPhaseEndEvent.class, List.copyOf(events).get(events.size() - 1));
+        Map<String, Integer> iterations = components().stream()
+                .collect(Collectors.toMap(ComponentWarmupEndEvent::getName, ComponentWarmupEndEvent::getIterations));
+        assertEquals(Map.of("warmableService", 5, "annotatedService", 5), iterations);
+    }
+
+    @Test
+    void should_stopHooks_whenDurationIsOver() throws Exception {
+        container.register(WarmableService.class);
+
+        container.warmUp(WarmupPolicy.duration(Duration.ofMillis(50)), multicaster).get(5, TimeUnit.SECONDS);
+
+        ComponentWarmupEndEvent event = components().get(0);
+        assertTrue(event.getIterations() > 0);
+        assertTrue(event.getElapsed().compareTo(Duration.ofMillis(50)) >= 0);
+    }
+
+    @Test
+    void should_waitForWarmup_beforeBeingReady() {
+        container.register(SlowService.class);
+        Readiness readiness = container.instance(Readiness.class);
+
+        container.warmUp(WarmupPolicy.duration(Duration.ofMillis(200)), multicaster);
+        container.freeze();
+
+        assertFalse(readiness.isReady());
+        readiness.whenReady().join();
+        assertEquals(1, components().size());
+    }
+
+    @Test
+    void should_reportFailureAndStayReady_whenHookThrows() {
+        container.register(BrokenService.class);
+        Readiness readiness = container.instance(Readiness.class);
+
+        container.warmUp(WarmupPolicy.iterations(3), multicaster);
+        container.freeze();
+        readiness.whenReady().join();
+
+        ComponentWarmupEndEvent event = components().get(0);
+        assertEquals(0, event.getIterations());
+        assertInstanceOf(IllegalStateException.class, event.getFailure());
+        assertTrue(readiness.isReady());
+    }
+
+    @Test
+    void should_throwIllegalArgumentException_whenPolicyIsUnbounded() {
+        assertThrows(IllegalArgumentException.class, () -> new WarmupPolicy(0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> WarmupPolicy.iterations(-1));
+    }
+
+    private List<ComponentWarmupEndEvent> components() {
+        return events.stream()
+                .filter(ComponentWarmupEndEvent.class::isInstance)
+                .map(ComponentWarmupEndEvent.class::cast)
+                .toList();
+    }
+
+    public static class WarmableService implements Warmable {
+
+        private int iterations;
+
+        public WarmableService() {}
+
+        @Override
+        public void warmUp() {
+            iterations++;
+        }
+    }
+
+    public static class AnnotatedService {
+
+        private int iterations;
+
+        public AnnotatedService() {}
+
+        @Warmup
+        public void prime() {
+            iterations++;
+        }
+    }
+
+    public static class ColdService {
+
+        public ColdService() {}
+    }
+
+    public static class SlowService {
+
+        public SlowService() {}
+
+        @Warmup
+        public void prime() throws InterruptedException {
+            Thread.sleep(10);
+        }
+    }
+
+    public static class BrokenService {
+
+        public BrokenService() {}
+
+        @Warmup
+        public void prime() {
+            throw new IllegalStateException("cold");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.w1sh.stardust.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("benchmark")
+class ContainerLookupAllocationTest {
+
+    @Test
+    void should_notAllocate_whenLookingUpExistingSingleton() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ContainerLookupBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertFalse(results.isEmpty());
+        for (RunResult result : results) {
+            Result<?> allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            assertNotNull(allocation);
+            assertTrue(allocation.getScore() < 1.0, () -> String.format("%s %s allocated %.2f bytes per operation",
+                    result.getParams().getBenchmark(), result.getParams().getParam("frozen"), allocation.getScore()));
+        }
+    }
+}
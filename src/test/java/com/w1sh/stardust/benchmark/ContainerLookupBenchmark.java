@@ -0,0 +1,65 @@
+package com.w1sh.stardust.benchmark;
+
+import com.w1sh.stardust.AbstractProviderContainer;
+import com.w1sh.stardust.ObjectProvider;
+import com.w1sh.stardust.example.controller.impl.CalculatorControllerImpl;
+import com.w1sh.stardust.example.service.MerchantService;
+import com.w1sh.stardust.example.service.impl.CalculatorServiceImpl;
+import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of looking up an existing singleton through the container, both before and after the container is
+ * frozen. Run with the GC profiler to check that lookups do not allocate, see {@link ContainerLookupAllocationTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ContainerLookupBenchmark {
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private AbstractProviderContainer container;
+
+    @Setup
+    public void setUp() {
+        container = AbstractProviderContainer.base();
+        container.register(MerchantServiceImpl.class);
+        container.register(CalculatorServiceImpl.class);
+        container.register(CalculatorControllerImpl.class);
+        if (frozen) {
+            container.freeze();
+        }
+    }
+
+    @Benchmark
+    public MerchantService instanceByClass() {
+        return container.instance(MerchantService.class);
+    }
+
+    @Benchmark
+    public MerchantService instanceByName() {
+        return container.instance("merchantServiceImpl");
+    }
+
+    @Benchmark
+    public ObjectProvider<MerchantService> providerByClass() {
+        return container.provider(MerchantService.class);
+    }
+
+    @Benchmark
+    public boolean containsClass() {
+        return container.contains(MerchantService.class);
+    }
+
+    @Benchmark
+    public boolean containsName() {
+        return container.contains("merchantServiceImpl");
+    }
+}
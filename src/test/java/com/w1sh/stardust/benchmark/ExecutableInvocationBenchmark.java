@@ -0,0 +1,75 @@
+package com.w1sh.stardust.benchmark;
+
+import com.w1sh.stardust.ResolvableConstructorImpl;
+import com.w1sh.stardust.ResolvableMethodImpl;
+import com.w1sh.stardust.example.controller.impl.RequiredDependantControllerImpl;
+import com.w1sh.stardust.example.service.MerchantService;
+import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating instances through the compiled invokers of {@link ResolvableConstructorImpl} and
+ * {@link ResolvableMethodImpl} against calling {@link Constructor#newInstance(Object...)} and
+ * {@link Method#invoke(Object, Object...)} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ExecutableInvocationBenchmark {
+
+    private Constructor<RequiredDependantControllerImpl> constructor;
+    private Method method;
+    private ResolvableConstructorImpl<?> resolvableConstructor;
+    private ResolvableMethodImpl<?> resolvableMethod;
+    private Object[] args;
+    private Factory factory;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        constructor = RequiredDependantControllerImpl.class.getConstructor(MerchantService.class);
+        method = Factory.class.getMethod("controller", MerchantService.class);
+        factory = new Factory();
+        resolvableConstructor = new ResolvableConstructorImpl<>(constructor);
+        resolvableMethod = new ResolvableMethodImpl<>(method, factory);
+        args = new Object[]{new MerchantServiceImpl()};
+    }
+
+    @Benchmark
+    public Object reflectiveConstructor() throws ReflectiveOperationException {
+        return constructor.newInstance(args);
+    }
+
+    @Benchmark
+    public Object compiledConstructor() {
+        return resolvableConstructor.resolve(args);
+    }
+
+    @Benchmark
+    public Object reflectiveMethod() throws ReflectiveOperationException {
+        return method.invoke(factory, args);
+    }
+
+    @Benchmark
+    public Object compiledMethod() {
+        return resolvableMethod.resolve(args);
+    }
+
+    @Benchmark
+    public Object directConstructor() {
+        return new RequiredDependantControllerImpl((MerchantService) args[0]);
+    }
+
+    public static class Factory {
+
+        public RequiredDependantControllerImpl controller(MerchantService merchantService) {
+            return new RequiredDependantControllerImpl(merchantService);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.w1sh.stardust.benchmark;
+
+import com.w1sh.stardust.*;
+import com.w1sh.stardust.annotation.Inject;
+import com.w1sh.stardust.annotation.Property;
+import com.w1sh.stardust.annotation.Provide;
+import com.w1sh.stardust.binding.Provider;
+import com.w1sh.stardust.example.service.MerchantService;
+import com.w1sh.stardust.example.service.impl.CalculatorServiceImpl;
+import com.w1sh.stardust.example.service.impl.MerchantServiceImpl;
+import com.w1sh.stardust.example.service.impl.PrototypeServiceImpl;
+import com.w1sh.stardust.util.Constructors;
+import com.w1sh.stardust.util.Types;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Scope;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many prototypes per second the container creates, comparing the compiled creation path of a
+ * {@link PrototypeObjectProvider} against resolving every constructor argument through
+ * {@link ParameterResolver#resolve(ResolvableParameter)} and sorting the post-construct interceptors for every
+ * instance, as the container used to.
+ * <br>
+ * No pre-destroy interceptor applies to the prototype, so its provider does not track the instances it creates and the
+ * heap stays flat for the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PrototypeCreationBenchmark {
+
+    private AbstractProviderContainer container;
+    private ObjectProvider<RequestHandler> provider;
+    private ResolvableConstructorImpl<?> constructor;
+    private ParameterResolver resolver;
+
+    @Setup
+    public void setUp() {
+        container = AbstractProviderContainer.base();
+        resolver = container.instance(ParameterResolver.class);
+        container.addInterceptor(new JakartaPostConstructInterceptor());
+        container.addInterceptor(new SetterInjectionPostConstructInterceptor(resolver));
+        container.register(MerchantServiceImpl.class);
+        container.register(CalculatorServiceImpl.class);
+        container.register(PrototypeServiceImpl.class);
+        container.register(RequestHandler.class);
+        container.freeze();
+        provider = container.provider(RequestHandler.class);
+        constructor = new ResolvableConstructorImpl<>(Constructors.getInjectConstructor(RequestHandler.class));
+    }
+
+    @Benchmark
+    public Object compiledPrototype() {
+        return provider.newInstance();
+    }
+
+    @Benchmark
+    public Object resolvedPrototype() {
+        final List<ResolvableParameter<?>> parameters = constructor.getParameters();
+        final Object[] args = new Object[parameters.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = resolver.resolve(parameters.get(i));
+        }
+        final Object instance = constructor.resolve(args);
+        container.getAllInterceptorsOfType(InvocationInterceptor.InvocationType.POST_CONSTRUCT).stream()
+                .sorted(Comparator.comparing(o -> Types.getPriority(o.getClass())))
+                .forEach(interceptor -> interceptor.intercept(instance));
+        return instance;
+    }
+
+    @Provide(scope = com.w1sh.stardust.Scope.PROTOTYPE)
+    public static class RequestHandler {
+
+        @Inject
+        public RequestHandler(MerchantService merchantService, CalculatorServiceImpl calculatorService,
+                              PrototypeServiceImpl prototypeService, Provider<PrototypeServiceImpl> prototypes,
+                              @Property("handler.name") String name) {}
+    }
+}
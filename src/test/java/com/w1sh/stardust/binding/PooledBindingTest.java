@@ -0,0 +1,43 @@
+package com.w1sh.stardust.binding;
+
+import com.w1sh.stardust.PooledObjectProvider;
+import com.w1sh.stardust.PrototypeObjectProvider;
+import com.w1sh.stardust.example.service.impl.TestClass;
+import com.w1sh.stardust.exception.ProviderInitializationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledBindingTest {
+
+    private final PooledObjectProvider<TestClass> provider = new PooledObjectProvider<>(TestClass::new, 2);
+
+    @Test
+    void should_returnInstanceToPool_whenWorkCompletes() {
+        Pooled<TestClass> pooled = PooledBinding.of(provider);
+
+        TestClass first = pooled.apply(instance -> instance);
+        TestClass second = pooled.apply(instance -> instance);
+
+        assertSame(first, second);
+        assertEquals(1, pooled.metrics().reused());
+    }
+
+    @Test
+    void should_dropInstance_whenWorkThrows() {
+        Pooled<TestClass> pooled = PooledBinding.of(provider);
+
+        assertThrows(IllegalStateException.class, () -> pooled.apply(instance -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(0, pooled.metrics().idle());
+        assertEquals(1, pooled.metrics().discarded());
+    }
+
+    @Test
+    void should_throwProviderInitializationException_whenProviderIsNotPooled() {
+        assertThrows(ProviderInitializationException.class,
+                () -> PooledBinding.of(new PrototypeObjectProvider<>(TestClass::new)));
+    }
+}
@@ -6,6 +6,9 @@ import com.w1sh.stardust.exception.PropertyValueSettingException;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +38,66 @@ class PropertyValuePostConstructInterceptorTest {
         assertThrows(PropertyValueSettingException.class, () -> interceptor.intercept(propertyClass));
     }
 
+    @Test
+    void should_convertValuesIntoFieldTypes_whenFieldsAreTyped() {
+        TypedPropertyClass typedPropertyClass = new TypedPropertyClass();
+        when(registry.getProperty("server.port")).thenReturn("8080");
+        when(registry.getProperty("server.enabled")).thenReturn("true");
+        when(registry.getProperty("server.timeout")).thenReturn("PT30S");
+        when(registry.getProperty("server.unit")).thenReturn("SECONDS");
+        when(registry.getProperty("server.ports")).thenReturn("80;443");
+
+        interceptor.intercept(typedPropertyClass);
+
+        assertEquals(8080, typedPropertyClass.port);
+        assertTrue(typedPropertyClass.enabled);
+        assertEquals(Duration.ofSeconds(30), typedPropertyClass.timeout);
+        assertEquals(TimeUnit.SECONDS, typedPropertyClass.unit);
+        assertArrayEquals(new int[]{80, 443}, typedPropertyClass.ports);
+        assertEquals(10L, typedPropertyClass.retries);
+    }
+
+    @Test
+    void should_copyArrayValues_whenSameFieldIsInjectedTwice() {
+        TypedPropertyClass first = new TypedPropertyClass();
+        TypedPropertyClass second = new TypedPropertyClass();
+        when(registry.getProperty("server.ports")).thenReturn("80;443");
+
+        interceptor.intercept(first);
+        interceptor.intercept(second);
+
+        assertArrayEquals(first.ports, second.ports);
+        assertNotSame(first.ports, second.ports);
+    }
+
+    @Test
+    void should_throwPropertyValueSettingException_whenValueCannotBeConverted() {
+        when(registry.getProperty("server.port")).thenReturn("not-a-number");
+
+        assertThrows(PropertyValueSettingException.class, () -> interceptor.intercept(new TypedPropertyClass()));
+    }
+
+    public static class TypedPropertyClass {
+
+        @Property("server.port")
+        private int port;
+
+        @Property("server.enabled")
+        private boolean enabled;
+
+        @Property("server.timeout")
+        private Duration timeout;
+
+        @Property("server.unit")
+        private TimeUnit unit;
+
+        @Property(value = "server.ports", arraySeparator = ";")
+        private int[] ports;
+
+        @Property("server.retries")
+        private long retries = 10L;
+    }
+
     public static class PropertyClass {
 
         @Property("application.name")
@@ -0,0 +1,70 @@
+package com.w1sh.stardust.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimplePhaseEventMulticasterTest {
+
+    private final SimplePhaseEventMulticaster multicaster = new SimplePhaseEventMulticaster();
+
+    @Test
+    void should_notifyOnlyListenersOfEventType_whenMulticasting() {
+        WarmupEndListener listener = new WarmupEndListener();
+        multicaster.addApplicationListener(listener);
+
+        multicaster.multicast(new WarmupPhaseStartEvent(1));
+        multicaster.multicast(new WarmupPhaseEndEvent(Duration.ZERO));
+
+        assertEquals(1, listener.events.size());
+    }
+
+    @Test
+    void should_notifyOfEveryEvent_whenEventTypeCannotBeRead() {
+        List<PhaseEvent> events = new ArrayList<>();
+        multicaster.addApplicationListener(events::add);
+
+        multicaster.multicast(new WarmupPhaseStartEvent(1));
+        multicaster.multicast(new RegistrationPhaseEndEvent());
+
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void should_notifyOtherListeners_whenListenerThrows() {
+        WarmupEndListener listener = new WarmupEndListener();
+        multicaster.addApplicationListener(event -> {
+            throw new IllegalStateException();
+        });
+        multicaster.addApplicationListener(listener);
+
+        multicaster.multicast(new WarmupPhaseEndEvent(Duration.ZERO));
+
+        assertEquals(1, listener.events.size());
+    }
+
+    @Test
+    void should_notNotifyListener_whenRemoved() {
+        WarmupEndListener listener = new WarmupEndListener();
+        multicaster.addApplicationListener(listener);
+        multicaster.removeApplicationListener(listener);
+
+        multicaster.multicast(new WarmupPhaseEndEvent(Duration.ZERO));
+
+        assertTrue(listener.events.isEmpty());
+    }
+
+    private static class WarmupEndListener implements PhaseEventListener<WarmupPhaseEndEvent> {
+
+        private final List<WarmupPhaseEndEvent> events = new ArrayList<>();
+
+        @Override
+        public void onEvent(WarmupPhaseEndEvent event) {
+            events.add(event);
+        }
+    }
+}
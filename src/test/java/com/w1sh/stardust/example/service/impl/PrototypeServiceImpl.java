@@ -0,0 +1,8 @@
+package com.w1sh.stardust.example.service.impl;
+
+import com.w1sh.stardust.Scope;
+import com.w1sh.stardust.annotation.Provide;
+
+@Provide(scope = Scope.PROTOTYPE)
+public class PrototypeServiceImpl {
+}
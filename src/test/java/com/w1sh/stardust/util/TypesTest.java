@@ -0,0 +1,28 @@
+package com.w1sh.stardust.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypesTest {
+
+    @Test
+    void should_returnEqualArrayOfSameType_whenCopyingObjectArray() {
+        final String[] array = {"first", "second"};
+
+        final Object copy = Types.copyOfArray(array);
+
+        assertNotSame(array, copy);
+        assertArrayEquals(array, (String[]) copy);
+    }
+
+    @Test
+    void should_returnEqualArrayOfSameType_whenCopyingPrimitiveArray() {
+        final int[] array = {1, 2, 3};
+
+        final Object copy = Types.copyOfArray(array);
+
+        assertNotSame(array, copy);
+        assertArrayEquals(array, (int[]) copy);
+    }
+}